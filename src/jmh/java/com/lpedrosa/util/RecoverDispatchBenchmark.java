@@ -0,0 +1,98 @@
+package com.lpedrosa.util;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares recovering through a chain of {@code instanceof} checks with
+ * {@link Try#recoverMatching(FailureMatcher)}, for failures of a single type matched by the
+ * last check, and for failures of mixed types.
+ * <p>
+ * Run with {@code gradle jmh -PjmhArgs=RecoverDispatchBenchmark}.
+ *
+ * @author lpedrosa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecoverDispatchBenchmark {
+
+    private static final Function<Throwable, Integer> LADDER = t -> {
+        if (t instanceof FileNotFoundException) return 1;
+        if (t instanceof IOException) return 2;
+        if (t instanceof UncheckedIOException) return 3;
+        if (t instanceof TimeoutException) return 4;
+        if (t instanceof ConcurrentModificationException) return 5;
+        if (t instanceof NoSuchElementException) return 6;
+        if (t instanceof IllegalStateException) return 7;
+        if (t instanceof IllegalArgumentException) return 8;
+        return 0;
+    };
+
+    private static final FailureMatcher<Integer> MATCHER = FailureMatcher.<Integer>builder()
+            .on(FileNotFoundException.class, e -> 1)
+            .on(IOException.class, e -> 2)
+            .on(UncheckedIOException.class, e -> 3)
+            .on(TimeoutException.class, e -> 4)
+            .on(ConcurrentModificationException.class, e -> 5)
+            .on(NoSuchElementException.class, e -> 6)
+            .on(IllegalStateException.class, e -> 7)
+            .on(IllegalArgumentException.class, e -> 8)
+            .build();
+
+    @Param({ "single", "mixed" })
+    public String failureTypes;
+
+    private Try<Integer>[] failures;
+    private int next;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Throwable[] errors = "single".equals(failureTypes)
+                ? new Throwable[] { new NumberFormatException() }
+                : new Throwable[] { new NumberFormatException(), new FileNotFoundException(),
+                                    new TimeoutException(), new NoSuchElementException(),
+                                    new UnsupportedOperationException(), new IllegalStateException() };
+        failures = (Try<Integer>[]) new Try<?>[64];
+        for (int i = 0; i < failures.length; i++) {
+            failures[i] = Try.failure(errors[i % errors.length]);
+        }
+    }
+
+    @Benchmark
+    public Try<Integer> instanceofLadder() {
+        return nextFailure().recover(LADDER);
+    }
+
+    @Benchmark
+    public Try<Integer> recoverMatching() {
+        return nextFailure().recoverMatching(MATCHER);
+    }
+
+    private Try<Integer> nextFailure() {
+        next = (next + 1) & (failures.length - 1);
+        return failures[next];
+    }
+}
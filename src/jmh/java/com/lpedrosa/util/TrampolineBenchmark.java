@@ -0,0 +1,59 @@
+package com.lpedrosa.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a recursive flatMap loop written with {@link Try}, which uses one stack frame
+ * group per step, with the same loop written with {@link TrampolinedTry}, which runs in
+ * constant stack. Depths are kept low enough for the recursive form not to overflow.
+ *
+ * @author lpedrosa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrampolineBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int depth;
+
+    @Benchmark
+    public Try<Integer> recursiveTry() {
+        return recursive(depth);
+    }
+
+    @Benchmark
+    public Try<Integer> trampolinedTry() {
+        return trampolined(depth).run();
+    }
+
+    private static Try<Integer> recursive(int n) {
+        if (n == 0) {
+            return Try.success(0);
+        }
+        return Try.success(n - 1)
+                  .flatMap(TrampolineBenchmark::recursive);
+    }
+
+    private static TrampolinedTry<Integer> trampolined(int n) {
+        if (n == 0) {
+            return TrampolinedTry.success(0);
+        }
+        return TrampolinedTry.success(n - 1)
+                             .flatMap(TrampolineBenchmark::trampolined);
+    }
+}
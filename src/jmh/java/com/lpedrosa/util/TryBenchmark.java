@@ -0,0 +1,151 @@
+package com.lpedrosa.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lpedrosa.util.function.ThrowableSupplier;
+
+/**
+ * Measures every public operation of {@link Try} in isolation, once on a
+ * success instance and once on a failure instance.
+ * <p>
+ * Run with {@code gradle jmh -PjmhArgs=TryBenchmark}; the GC profiler is enabled
+ * by the build, so {@code gc.alloc.rate.norm} reports the bytes allocated per operation.
+ *
+ * @author lpedrosa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryBenchmark {
+
+    private static final Function<String, Integer> LENGTH = String::length;
+    private static final Function<String, Try<Integer>> TRY_LENGTH = s -> Try.success(s.length());
+    private static final Predicate<String> NOT_EMPTY = s -> !s.isEmpty();
+    private static final Predicate<String> REJECT = s -> false;
+    private static final Function<Throwable, String> RECOVER = t -> "recovered";
+    private static final Function<Throwable, Try<String>> RECOVER_WITH = t -> Try.success("recovered");
+    private static final ThrowableSupplier<String> FALLBACK = () -> "fallback";
+
+    @Param({ "success", "failure" })
+    public String outcome;
+
+    private Try<String> input;
+    private Try<String> other;
+    private ThrowableSupplier<String> supplier;
+    private Throwable error;
+
+    @Setup
+    public void setUp() {
+        error = new IllegalStateException("benchmark failure");
+        if ("success".equals(outcome)) {
+            input = Try.success("value");
+            other = Try.success("value");
+            supplier = () -> "value";
+        } else {
+            input = Try.failure(error);
+            other = Try.failure(error);
+            supplier = () -> { throw error; };
+        }
+    }
+
+    @Benchmark
+    public Try<String> of() {
+        return Try.of(supplier);
+    }
+
+    @Benchmark
+    public Try<String> success() {
+        return Try.success("value");
+    }
+
+    @Benchmark
+    public Try<String> failure() {
+        return Try.failure(error);
+    }
+
+    @Benchmark
+    public Try<Integer> map() {
+        return input.map(LENGTH);
+    }
+
+    @Benchmark
+    public Try<Integer> flatMap() {
+        return input.flatMap(TRY_LENGTH);
+    }
+
+    @Benchmark
+    public Try<String> filterAccepted() {
+        return input.filter(NOT_EMPTY);
+    }
+
+    @Benchmark
+    public Try<String> filterRejected() {
+        return input.filter(REJECT);
+    }
+
+    @Benchmark
+    public Try<String> recover() {
+        return input.recover(RECOVER);
+    }
+
+    @Benchmark
+    public Try<String> recoverWith() {
+        return input.recoverWith(RECOVER_WITH);
+    }
+
+    @Benchmark
+    public Object get() {
+        try {
+            return input.get();
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+
+    @Benchmark
+    public String orElse() {
+        return input.orElse("default");
+    }
+
+    @Benchmark
+    public Try<String> orElseGet() {
+        return input.orElseGet(FALLBACK);
+    }
+
+    @Benchmark
+    public boolean isFailure() {
+        return input.isFailure();
+    }
+
+    @Benchmark
+    public boolean equalsOther() {
+        return input.equals(other);
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return input.hashCode();
+    }
+
+    @Benchmark
+    public String toStringOf() {
+        return input.toString();
+    }
+}
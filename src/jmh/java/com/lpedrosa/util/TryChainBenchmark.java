@@ -0,0 +1,76 @@
+package com.lpedrosa.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures chains of 1 to 20 {@link Try} operations, starting from either a success
+ * or a failure, to show how the per-step cost and allocation add up.
+ *
+ * @author lpedrosa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryChainBenchmark {
+
+    private static final Function<Integer, Integer> INCREMENT = i -> i + 1;
+    private static final Function<Integer, Try<Integer>> TRY_INCREMENT = i -> Try.success(i + 1);
+    private static final Function<Throwable, Integer> RECOVER = t -> 0;
+
+    @Param({ "1", "5", "10", "20" })
+    public int depth;
+
+    @Param({ "success", "failure" })
+    public String outcome;
+
+    private Try<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = "success".equals(outcome) ? Try.success(0)
+                                          : Try.failure(new IllegalStateException("benchmark failure"));
+    }
+
+    @Benchmark
+    public Integer mapChain() {
+        Try<Integer> current = input;
+        for (int i = 0; i < depth; i++) {
+            current = current.map(INCREMENT);
+        }
+        return current.orElse(-1);
+    }
+
+    @Benchmark
+    public Integer flatMapChain() {
+        Try<Integer> current = input;
+        for (int i = 0; i < depth; i++) {
+            current = current.flatMap(TRY_INCREMENT);
+        }
+        return current.orElse(-1);
+    }
+
+    @Benchmark
+    public Integer mapRecoverChain() {
+        Try<Integer> current = input;
+        for (int i = 0; i < depth; i++) {
+            current = current.map(INCREMENT).recover(RECOVER);
+        }
+        return current.orElse(-1);
+    }
+}
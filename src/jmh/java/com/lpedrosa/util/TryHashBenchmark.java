@@ -0,0 +1,71 @@
+package com.lpedrosa.util;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures lookups of {@link Try} keys in a HashSet of growing size. With a hash code
+ * that agrees with equals, the time per lookup should stay flat as the set grows.
+ *
+ * @author lpedrosa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TryHashBenchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    public int size;
+
+    private Set<Try<Integer>> successes;
+    private Set<Try<Integer>> failures;
+    private Try<Integer> successKey;
+    private Try<Integer> failureKey;
+    private Try<Integer> missingKey;
+
+    @Setup
+    public void setUp() {
+        successes = new HashSet<>();
+        failures = new HashSet<>();
+        Throwable lastError = null;
+        for (int i = 0; i < size; i++) {
+            successes.add(Try.success(i));
+            lastError = new IllegalStateException();
+            failures.add(Try.failure(lastError));
+        }
+        successKey = Try.success(size / 2);
+        failureKey = Try.failure(lastError);
+        missingKey = Try.success(-1);
+    }
+
+    @Benchmark
+    public boolean containsSuccess() {
+        return successes.contains(successKey);
+    }
+
+    @Benchmark
+    public boolean containsFailure() {
+        return failures.contains(failureKey);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return successes.contains(missingKey);
+    }
+}
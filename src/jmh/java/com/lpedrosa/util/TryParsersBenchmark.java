@@ -0,0 +1,94 @@
+package com.lpedrosa.util;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing through {@code Try.of(() -> Integer.parseInt(s))} with
+ * {@link TryParsers}, over inputs of which a given percentage is malformed.
+ * <p>
+ * Run with {@code gradle jmh -PjmhArgs=TryParsersBenchmark}.
+ *
+ * @author lpedrosa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryParsersBenchmark {
+
+    private static final int INPUTS = 1024;
+
+    @Param({ "0", "30" })
+    public int dirtyPercent;
+
+    private String[] ints;
+    private String[] doubles;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        ints = new String[INPUTS];
+        doubles = new String[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            boolean dirty = random.nextInt(100) < dirtyPercent;
+            ints[i] = dirty ? "n/a" : Integer.toString(random.nextInt());
+            doubles[i] = dirty ? "n/a" : Double.toString(random.nextInt(1_000_000) / 100.0);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public long tryOfParseInt() {
+        long sum = 0;
+        for (String input : ints) {
+            sum += Try.of(() -> Integer.parseInt(input)).orElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public long tryParsersParseInt() {
+        long sum = 0;
+        for (String input : ints) {
+            sum += TryParsers.parseInt(input).orElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public double tryOfParseDouble() {
+        double sum = 0;
+        for (String input : doubles) {
+            sum += Try.of(() -> Double.parseDouble(input)).orElse(0.0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INPUTS)
+    public double tryParsersParseDouble() {
+        double sum = 0;
+        for (String input : doubles) {
+            sum += TryParsers.parseDouble(input).orElse(0.0);
+        }
+        return sum;
+    }
+}
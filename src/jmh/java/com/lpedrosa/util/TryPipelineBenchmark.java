@@ -0,0 +1,78 @@
+package com.lpedrosa.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares a fluent {@link Try} chain applied to every record with the same chain compiled
+ * once into a {@link TryPipeline}, both per record and in bulk through
+ * {@link TryPipeline#applyAll(Object[])}. Every {@code failEvery}-th record fails to parse.
+ *
+ * @author lpedrosa
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryPipelineBenchmark {
+
+    private static final int RECORDS = 1000;
+
+    private static final TryPipeline<String, Integer> PIPELINE = TryPipeline.<String>start()
+                                                                            .map(String::trim)
+                                                                            .map(Integer::parseInt)
+                                                                            .filter(i -> i % 2 == 0)
+                                                                            .recover(t -> -1)
+                                                                            .map(i -> i + 1);
+
+    @Param({ "3", "1000000" })
+    public int failEvery;
+
+    private String[] records;
+
+    @Setup
+    public void setUp() {
+        records = new String[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            records[i] = i % failEvery == 0 ? " x" + i : " " + i;
+        }
+    }
+
+    @Benchmark
+    public void fluentChain(Blackhole blackhole) {
+        for (String record : records) {
+            blackhole.consume(Try.success(record)
+                                 .map(String::trim)
+                                 .map(Integer::parseInt)
+                                 .filter(i -> i % 2 == 0)
+                                 .recover(t -> -1)
+                                 .map(i -> i + 1));
+        }
+    }
+
+    @Benchmark
+    public void pipelineApply(Blackhole blackhole) {
+        for (String record : records) {
+            blackhole.consume(PIPELINE.apply(record));
+        }
+    }
+
+    @Benchmark
+    public TryBatch<Integer> pipelineApplyAll() {
+        return PIPELINE.applyAll(records);
+    }
+}
@@ -0,0 +1,329 @@
+package com.lpedrosa.util;
+
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import com.lpedrosa.util.function.ThrowableDoubleSupplier;
+
+/**
+ * A primitive specialization of {@link Try} for {@code double} values. A success holds
+ * the {@code double} value directly, so creating, mapping and reading a successful
+ * DoubleTry never boxes it into a {@code Double}.
+ * <p>
+ * Bridges to the other specializations and to {@link Try} are available through the
+ * {@code mapToXxx} and {@link #mapToObj(DoubleFunction)} methods, and {@link Try} offers the
+ * reverse bridges, e.g. {@link Try#mapToDouble(ToDoubleFunction)}.
+ * <p>
+ * Instances of this class can be created by using one the following static methods:
+ * {@link #of(ThrowableDoubleSupplier)}, {@link #success(double)}, {@link #failure(Throwable)}
+ *
+ * @author lpedrosa
+ * @see Try
+ */
+public final class DoubleTry {
+
+        private final double value;
+        private final Throwable error;
+
+        /**
+         * Returns a DoubleTry instance holding the value of the specified computation, if successful.
+         * The DoubleTry might result in a failure if the supplier has thrown an exception.
+         * @param supplier a supplier that might throw an exception, which must be non-null
+         * @return a DoubleTry representing the success or failure of the provided computation
+         * @throws NullPointerException if supplier is null
+         */
+        public static DoubleTry of(ThrowableDoubleSupplier supplier) {
+            Objects.requireNonNull(supplier);
+
+            double computed;
+            try {
+                computed = supplier.getAsDouble();
+            } catch (Throwable t) {
+                return new DoubleTry(0.0, StackTracePolicy.capture(t));
+            }
+            return new DoubleTry(computed, null);
+        }
+
+        /**
+         * Returns a DoubleTry instance, representing a success with the specified value
+         * @param value the successful value
+         * @return a success instance with the specified value
+         */
+        public static DoubleTry success(double value) {
+            return new DoubleTry(value, null);
+        }
+
+        /**
+         * Returns a DoubleTry instance, representing a failure with the specified throwable
+         * @param t the throwable contained in this failure instance, which must be non-null
+         * @return a failure instance with the specified throwable
+         * @throws NullPointerException if t is null
+         */
+        public static DoubleTry failure(Throwable t) {
+            Objects.requireNonNull(t);
+
+            return new DoubleTry(0.0, t);
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this DoubleTry, if it represents a success.
+         * Otherwise return this instance if it is a failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a DoubleTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise this failure instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public DoubleTry map(DoubleUnaryOperator mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return this;
+            }
+
+            double mapped;
+            try {
+                mapped = mapper.applyAsDouble(this.value);
+            } catch (Throwable t) {
+                return new DoubleTry(0.0, StackTracePolicy.capture(t));
+            }
+            return new DoubleTry(mapped, null);
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this DoubleTry, if it represents a success.
+         * Otherwise return an IntTry representing the same failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return an IntTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure IntTry instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public IntTry mapToInt(DoubleToIntFunction mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return IntTry.failure(this.error);
+            }
+
+            try {
+                return IntTry.success(mapper.applyAsInt(this.value));
+            } catch (Throwable t) {
+                return IntTry.failure(StackTracePolicy.capture(t));
+            }
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this DoubleTry, if it represents a success.
+         * Otherwise return a LongTry representing the same failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a LongTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure LongTry instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public LongTry mapToLong(DoubleToLongFunction mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return LongTry.failure(this.error);
+            }
+
+            try {
+                return LongTry.success(mapper.applyAsLong(this.value));
+            } catch (Throwable t) {
+                return LongTry.failure(StackTracePolicy.capture(t));
+            }
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this DoubleTry, if it represents a success,
+         * bridging to a {@link Try}. Otherwise return a Try representing the same failure.
+         * @param <U> The type of the result of the mapping function
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a Try describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure Try instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> Try<U> mapToObj(DoubleFunction<? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return Try.failure(this.error);
+            }
+
+            return Try.of(() -> mapper.apply(this.value));
+        }
+
+        /**
+         * Applies the provided DoubleTry-bearing mapping function to the value of this DoubleTry, if it represents
+         * a success. Otherwise return this instance if it is a failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return the DoubleTry returned by the mapping function, if this represents a success,
+         * otherwise this failure instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public DoubleTry flatMap(DoubleFunction<DoubleTry> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return this;
+            }
+
+            return mapper.apply(this.value);
+        }
+
+        /**
+         * If this DoubleTry represents a success, and the value matches the given predicate, return this
+         * instance, otherwise return a DoubleTry, representing a failure, wrapping a {@link PredicateFailedException}.
+         * @param predicate a predicate to apply to the value, if success
+         * @return this instance if success and the value matches the given predicate,
+         * otherwise a DoubleTry describing a failure, wrapping a PredicateFailedException
+         * @throws NullPointerException if the predicate is null
+         */
+        public DoubleTry filter(DoublePredicate predicate) {
+            Objects.requireNonNull(predicate);
+
+            if (this.error != null || predicate.test(this.value))
+                return this;
+
+            return new DoubleTry(0.0, new PredicateFailedException(this.value));
+        }
+
+        /**
+         * Applies the provided recover function to the throwable of this try, if it is a failure.
+         * Otherwise return this instance if this is a success.
+         * @param recoverFunc a recover function to apply the throwable, if failure
+         * @return a DoubleTry describing the result of applying a recover function to the throwable of
+         * this try, if it represents a failure, otherwise this success instance
+         * @throws NullPointerException if the recover function is null
+         */
+        public DoubleTry recover(ToDoubleFunction<Throwable> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            if (this.error == null) {
+                return this;
+            }
+
+            double recovered;
+            try {
+                recovered = recoverFunc.applyAsDouble(this.error);
+            } catch (Throwable t) {
+                return new DoubleTry(0.0, StackTracePolicy.capture(t));
+            }
+            return new DoubleTry(recovered, null);
+        }
+
+        /**
+         * Applies the provided DoubleTry-bearing recover function to the throwable of this try, if it is a
+         * failure. Otherwise return this instance if this is a success.
+         * @param recoverFunc a recover function to apply the throwable, if failure
+         * @return the DoubleTry returned by the recover function, if this represents a failure,
+         * otherwise this success instance
+         * @throws NullPointerException if the recover function is null
+         */
+        public DoubleTry recoverWith(Function<Throwable, DoubleTry> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            if (this.error == null) {
+                return this;
+            }
+
+            return recoverFunc.apply(this.error);
+        }
+
+        /**
+         * If this DoubleTry represents a success, return the underlying value. Otherwise, throw the Throwable
+         * associated with the failure.
+         * @return the value held by this DoubleTry, if it represents a success
+         * @throws Throwable if this represents a failure
+         */
+        public double getAsDouble() throws Throwable {
+            if (this.error != null) {
+                throw this.error;
+            }
+            return this.value;
+        }
+
+        /**
+         * Return the underlying value, if this represents a success. Otherwise return other
+         * @param other the value to be returned if this represents a failure
+         * @return the value, if success, otherwise other
+         */
+        public double orElse(double other) {
+            return this.error != null ? other : this.value;
+        }
+
+        /**
+         * Return this instance, if this represents a success. Otherwise invoke other
+         * and return the result of that invocation wrapped in a DoubleTry.
+         * @param other a supplier whose result is returned (wrapped in a DoubleTry) if this is a failure
+         * @return this instance, if success, otherwise the result of other wrapped in a DoubleTry
+         * @throws NullPointerException if other is null
+         */
+        public DoubleTry orElseGet(ThrowableDoubleSupplier other) {
+            Objects.requireNonNull(other);
+            return this.error != null ? DoubleTry.of(other) : this;
+        }
+
+        /**
+         * Return true if this represents a failure, otherwise false
+         * @return true if this is a failure, otherwise false
+         */
+        public boolean isFailure() {
+            return this.error != null;
+        }
+
+        /**
+         * Indicates whether some other object is "equal to" this DoubleTry. The other object is
+         * considered equal if it is also a DoubleTry and either both are failures with Throwables
+         * "equal to" each other via {@code equals()}, or both are successes with the same value
+         * (as compared by {@link Double#equals(Object)}).
+         * @param obj an object to be tested for equality
+         * @return if the other object is "equal to" this object otherwise false
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof DoubleTry)) {
+                return false;
+            }
+
+            DoubleTry other = (DoubleTry) obj;
+            if (this.error != null || other.error != null) {
+                return Objects.equals(this.error, other.error);
+            }
+            return Double.compare(this.value, other.value) == 0;
+        }
+
+        /**
+         * Returns the hash code value of the underlying value, if this represents a success,
+         * or the hash code value of the Throwable, if this represents a failure.
+         * @return hash code value of the underlying value or Throwable
+         */
+        @Override
+        public int hashCode() {
+            return this.error != null ? this.error.hashCode() : Double.hashCode(this.value);
+        }
+
+        /**
+         * Returns a non-empty string representation of this DoubleTry suitable for debugging.
+         * @return a string representation of this instance
+         */
+        @Override
+        public String toString() {
+            return this.error != null ? "DoubleTry.failure(" + this.error + ")"
+                                      : "DoubleTry.success(" + this.value + ")";
+        }
+
+        private DoubleTry(double value, Throwable error) {
+            this.value = value;
+            this.error = error;
+        }
+}
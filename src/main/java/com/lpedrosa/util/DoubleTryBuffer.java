@@ -0,0 +1,217 @@
+package com.lpedrosa.util;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+
+import com.lpedrosa.util.function.ThrowableDoubleSupplier;
+
+/**
+ * A fixed-size, off-heap buffer of {@code double} results that might have failed, for result
+ * sets too large to keep on the heap as {@link DoubleTry} instances or even as a {@link TryBatch}.
+ * <p>
+ * Successful values are stored in direct memory, eight bytes per position, together with a
+ * packed failure bitmap of one bit per position. Only the throwables of failed positions are
+ * kept on the heap, so the garbage collector does not have to trace the bulk of the data.
+ * Positions are addressed with {@code long} indices, so a buffer can exceed 2GB.
+ * <p>
+ * Direct memory is limited by {@code -XX:MaxDirectMemorySize}, which defaults to the maximum
+ * heap size, so a buffer from {@link #allocate(long)} larger than that limit fails with
+ * {@code OutOfMemoryError: Direct buffer memory}. {@link #allocateMapped(long, Path)} maps
+ * the buffer from a temporary file instead, which is only limited by the file system and is
+ * paged in and out by the operating system.
+ * <p>
+ * A new buffer holds a success with value {@code 0.0} at every position.
+ * {@link #map(DoubleUnaryOperator)} and {@link #parallelMap(DoubleUnaryOperator)} return a new buffer of the
+ * same size, and of the same kind, direct or mapped. The memory of a buffer is released when the
+ * buffer is garbage collected, or right away by {@link #close()}, e.g. with try-with-resources:
+ * <pre>
+ * {@code
+ * try (DoubleTryBuffer buffer = DoubleTryBuffer.allocateMapped(size, Paths.get("/var/tmp"))) {
+ *     ...
+ * }
+ * }
+ * </pre>
+ * The file of a mapped buffer is deleted once it is mapped, or, on systems that do not allow
+ * deleting a mapped file, once the buffer is closed or garbage collected.
+ * <p>
+ * Buffers are not thread-safe; {@link #parallelMap(DoubleUnaryOperator)} is the only operation that
+ * uses several threads, and it only reads this buffer. Closing a buffer waits for the operations
+ * running on other threads, and the operations that start afterwards throw an IllegalStateException.
+ *
+ * @author lpedrosa
+ * @see DoubleTry
+ */
+public final class DoubleTryBuffer implements AutoCloseable {
+
+    private final OffHeapSlots slots;
+
+    /**
+     * Allocates a new buffer with the specified number of positions.
+     * @param size the number of positions
+     * @return a new buffer
+     * @throws IllegalArgumentException if size is negative
+     */
+    public static DoubleTryBuffer allocate(long size) {
+        return new DoubleTryBuffer(new OffHeapSlots(size));
+    }
+
+    /**
+     * Allocates a new buffer with the specified number of positions, mapped from a new temporary
+     * file in the specified directory, which is deleted as soon as the system allows it.
+     * @param size the number of positions
+     * @param directory the directory of the file, which must be non-null
+     * @return a new buffer
+     * @throws IllegalArgumentException if size is negative
+     * @throws NullPointerException if directory is null
+     * @throws UncheckedIOException if the file cannot be created or mapped
+     */
+    public static DoubleTryBuffer allocateMapped(long size, Path directory) {
+        Objects.requireNonNull(directory);
+        return new DoubleTryBuffer(new OffHeapSlots(size, OffHeapSlots.DEFAULT_SEGMENT_SHIFT, directory));
+    }
+
+    /**
+     * Returns the number of positions in this buffer.
+     * @return the number of positions
+     */
+    public long size() {
+        return this.slots.size();
+    }
+
+    /**
+     * Returns the number of failures in this buffer.
+     * @return the number of failures
+     */
+    public long failureCount() {
+        return this.slots.failureCount();
+    }
+
+    /**
+     * Return true if the result at the specified position represents a failure, otherwise false
+     * @param index the position of the result
+     * @return true if the result is a failure, otherwise false
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean isFailure(long index) {
+        return this.slots.isFailure(index);
+    }
+
+    /**
+     * Returns the result at the specified position as a DoubleTry.
+     * @param index the position of the result
+     * @return a DoubleTry describing the result at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public DoubleTry get(long index) {
+        if (this.slots.isFailure(index)) {
+            return DoubleTry.failure(this.slots.error(index));
+        }
+        return DoubleTry.success(Double.longBitsToDouble(this.slots.bits(index)));
+    }
+
+    /**
+     * Return the value at the specified position, if it represents a success. Otherwise return other
+     * @param index the position of the result
+     * @param other the value to be returned if the result is a failure
+     * @return the value, if success, otherwise other
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double orElse(long index, double other) {
+        return this.slots.isFailure(index) ? other : Double.longBitsToDouble(this.slots.bits(index));
+    }
+
+    /**
+     * Stores a success with the specified value at the specified position.
+     * @param index the position of the result
+     * @param value the successful value
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public void setSuccess(long index, double value) {
+        this.slots.setSuccess(index, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Stores a failure with the specified throwable at the specified position.
+     * @param index the position of the result
+     * @param t the throwable of the failure, which must be non-null
+     * @throws NullPointerException if t is null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public void setFailure(long index, Throwable t) {
+        this.slots.setFailure(index, t);
+    }
+
+    /**
+     * Stores the result of the specified computation at the specified position: its value if
+     * successful, otherwise the exception it has thrown. No DoubleTry is created.
+     * @param index the position of the result
+     * @param supplier a supplier that might throw an exception, which must be non-null
+     * @throws NullPointerException if supplier is null
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public void compute(long index, ThrowableDoubleSupplier supplier) {
+        Objects.requireNonNull(supplier);
+
+        double value;
+        try {
+            value = supplier.getAsDouble();
+        } catch (Throwable t) {
+            this.slots.setFailure(index, StackTracePolicy.capture(t));
+            return;
+        }
+        this.slots.setSuccess(index, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Applies the provided mapping function to every successful value of this buffer, on the
+     * calling thread. Failures are kept at their positions, and exceptions thrown by the mapping
+     * function become failures.
+     * @param mapper a mapping function to apply to each successful value
+     * @return a new buffer describing the result of applying the mapping function to each successful value
+     * @throws NullPointerException if the mapping function is null
+     */
+    public DoubleTryBuffer map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return new DoubleTryBuffer(this.slots.map(bits -> Double.doubleToRawLongBits(mapper.applyAsDouble(Double.longBitsToDouble(bits))), false));
+    }
+
+    /**
+     * Applies the provided mapping function to every successful value of this buffer, splitting the
+     * work across the common fork/join pool. The mapping function must be safe to call concurrently.
+     * Failures are kept at their positions, and exceptions thrown by the mapping function become failures.
+     * @param mapper a stateless mapping function to apply to each successful value
+     * @return a new buffer describing the result of applying the mapping function to each successful value
+     * @throws NullPointerException if the mapping function is null
+     */
+    public DoubleTryBuffer parallelMap(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        return new DoubleTryBuffer(this.slots.map(bits -> Double.doubleToRawLongBits(mapper.applyAsDouble(Double.longBitsToDouble(bits))), true));
+    }
+
+    /**
+     * Releases the memory of this buffer right away, rather than when it is garbage collected,
+     * once the operations running on other threads have completed. Any later use of this buffer, other than
+     * {@link #size()}, {@link #failureCount()}, which is then 0, and {@link #toString()}, throws an
+     * IllegalStateException. Closing a closed buffer has no effect.
+     * @throws UncheckedIOException if the file of a mapped buffer cannot be deleted
+     */
+    @Override
+    public void close() {
+        this.slots.release();
+    }
+
+    /**
+     * Returns a non-empty string representation of this buffer suitable for debugging.
+     * @return a string representation of this instance
+     */
+    @Override
+    public String toString() {
+        return "DoubleTryBuffer(size=" + size() + ", failures=" + failureCount() + ")";
+    }
+
+    DoubleTryBuffer(OffHeapSlots slots) {
+        this.slots = slots;
+    }
+}
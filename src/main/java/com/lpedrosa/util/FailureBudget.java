@@ -0,0 +1,266 @@
+package com.lpedrosa.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link StackTracePolicy} that bounds the heap retained by captured failures.
+ * <p>
+ * Each captured Throwable is charged an estimate of its retained size, and the charge is
+ * returned once the Throwable has been garbage collected. While the estimated total is
+ * within the budget, failures are kept as they are, or as the policy given to
+ * {@link #of(long, StackTracePolicy)} makes them. Once the budget is exhausted, new failures
+ * are compacted in place: the stack traces of the Throwable and of its causes are dropped,
+ * as by {@link StackTracePolicy#drop()}, but the instance, and so its type, message and
+ * causes, is kept, so {@code instanceof} checks and {@link FailureMatcher}s behave the same
+ * during a burst of failures. What was shed is reported by {@link #getShedCount()} and
+ * {@link #getShedBytes()}.
+ * <p>
+ * Dropping a stack trace only bounds the heap retained by a failure when the JVM's internal
+ * copy of the trace can be released too, see {@link StackTracePolicy}: on Java 8, or on
+ * Java 16 and later when {@code java.lang} is opened to this library, e.g. with
+ * {@code --add-opens java.base/java.lang=ALL-UNNAMED}. Otherwise, a shed failure still
+ * retains that copy until it is collected, and only the memory used once its trace is read,
+ * e.g. when it is logged, is saved.
+ * <p>
+ * The retained size of a Throwable cannot be measured without reading its stack trace, which
+ * would grow it. It is estimated instead, as {@value #THROWABLE_BYTES} bytes, plus
+ * {@value #TRACE_BYTES} bytes for a stack trace, for the Throwable and each of its causes;
+ * a Throwable thrown 100 frames deep retains about 2.7 KB, and three times that once its
+ * trace has been read. {@link StacklessException} and {@link PredicateFailedException} are
+ * already compact, so they are neither charged nor shed.
+ * A budget is usually installed as the default policy:
+ * <pre>
+ * {@code
+ * FailureBudget budget = FailureBudget.of(64 * 1024 * 1024);
+ * StackTracePolicy.setDefault(budget);
+ * }
+ * </pre>
+ *
+ * @author lpedrosa
+ */
+public final class FailureBudget extends StackTracePolicy {
+
+    /** The estimated size of a Throwable and of the bookkeeping for it, without its stack trace. */
+    static final long THROWABLE_BYTES = 160;
+
+    /** The estimated size of the stack trace of a Throwable. */
+    static final long TRACE_BYTES = 4096;
+
+    /** Bounds the walk through the chain of causes, which may contain a cycle. */
+    private static final int MAX_CAUSES = 32;
+
+    private final long budgetBytes;
+    private final StackTracePolicy withinBudget;
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final LongAdder shedCount = new LongAdder();
+    private final LongAdder shedBytes = new LongAdder();
+    private final ReferenceQueue<Throwable> collected = new ReferenceQueue<>();
+    private final Map<Charge, Charge> charges = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a budget that keeps failures as they are until their estimated retained size
+     * exceeds the specified number of bytes.
+     * @param budgetBytes the budget, in bytes, which must not be negative
+     * @return a new failure budget
+     * @throws IllegalArgumentException if budgetBytes is negative
+     */
+    public static FailureBudget of(long budgetBytes) {
+        return of(budgetBytes, StackTracePolicy.full());
+    }
+
+    /**
+     * Returns a budget that applies the specified policy to failures until their estimated
+     * retained size exceeds the specified number of bytes.
+     * @param budgetBytes the budget, in bytes, which must not be negative
+     * @param withinBudget the policy applied to failures that fit in the budget, which must be non-null
+     * @return a new failure budget
+     * @throws IllegalArgumentException if budgetBytes is negative
+     * @throws NullPointerException if withinBudget is null
+     */
+    public static FailureBudget of(long budgetBytes, StackTracePolicy withinBudget) {
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException("budgetBytes must not be negative: " + budgetBytes);
+        }
+        return new FailureBudget(budgetBytes, Objects.requireNonNull(withinBudget));
+    }
+
+    private FailureBudget(long budgetBytes, StackTracePolicy withinBudget) {
+        this.budgetBytes = budgetBytes;
+        this.withinBudget = withinBudget;
+    }
+
+    /**
+     * Keeps the specified failure, through the policy for failures within the budget, if its
+     * estimated size fits in the budget; otherwise drops its stack traces in place.
+     * @param failure the captured Throwable, which is non-null
+     * @return the Throwable to store in the failure, i.e. the specified one, unless the policy
+     *         for failures within the budget replaces it
+     */
+    @Override
+    public Throwable apply(Throwable failure) {
+        releaseCollected();
+
+        if (isCompact(failure)) {
+            return failure;
+        }
+        Charge charge = new Charge(failure, 0, null);
+        if (this.charges.containsKey(charge)) {
+            // a failure caught again, e.g. rethrown by get(), is already kept and charged
+            return failure;
+        }
+        long bytes = estimate(failure);
+        if (reserve(bytes)) {
+            Throwable kept = this.withinBudget.apply(failure);
+            charge = new Charge(kept, bytes, this.collected);
+            if (this.charges.putIfAbsent(charge, charge) != null) {
+                // charged concurrently by another thread
+                this.retainedBytes.addAndGet(-bytes);
+            }
+            return kept;
+        }
+
+        this.shedCount.increment();
+        this.shedBytes.add(bytes - estimateCompacted(failure));
+        return StackTracePolicy.drop().apply(failure);
+    }
+
+    /**
+     * Returns the budget, in bytes.
+     * @return the budget
+     */
+    public long getBudgetBytes() {
+        return this.budgetBytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by the failures kept by this budget that
+     * have not been garbage collected yet.
+     * @return the estimated retained bytes
+     */
+    public long getRetainedBytes() {
+        releaseCollected();
+        return this.retainedBytes.get();
+    }
+
+    /**
+     * Returns the number of failures replaced by their compact form so far.
+     * @return the number of shed failures
+     */
+    public long getShedCount() {
+        return this.shedCount.sum();
+    }
+
+    /**
+     * Returns the estimated number of bytes that were not retained, because failures were
+     * replaced by their compact form.
+     * @return the estimated shed bytes
+     */
+    public long getShedBytes() {
+        return this.shedBytes.sum();
+    }
+
+    /**
+     * Returns a non-empty string representation of this budget, and of what it has shed,
+     * suitable for debugging.
+     * @return a string representation of this instance
+     */
+    @Override
+    public String toString() {
+        return "FailureBudget(retained " + getRetainedBytes() + " of " + this.budgetBytes + " bytes, shed "
+               + getShedCount() + " failures, " + getShedBytes() + " bytes)";
+    }
+
+    /**
+     * Returns the estimated retained size of the specified Throwable and of its causes.
+     */
+    static long estimate(Throwable failure) {
+        long bytes = 0;
+        Throwable current = failure;
+        for (int i = 0; current != null && i < MAX_CAUSES; i++) {
+            bytes += isCompact(current) ? THROWABLE_BYTES : THROWABLE_BYTES + TRACE_BYTES;
+            Throwable cause = current.getCause();
+            current = cause == current ? null : cause;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated retained size of the specified Throwable and of its causes, once
+     * their stack traces have been dropped.
+     */
+    private static long estimateCompacted(Throwable failure) {
+        long bytes = 0;
+        Throwable current = failure;
+        for (int i = 0; current != null && i < MAX_CAUSES; i++) {
+            bytes += THROWABLE_BYTES;
+            Throwable cause = current.getCause();
+            current = cause == current ? null : cause;
+        }
+        return bytes;
+    }
+
+    private static boolean isCompact(Throwable failure) {
+        return failure instanceof StacklessException || failure instanceof PredicateFailedException;
+    }
+
+    private boolean reserve(long bytes) {
+        long current;
+        do {
+            current = this.retainedBytes.get();
+            if (current + bytes > this.budgetBytes) {
+                return false;
+            }
+        } while (!this.retainedBytes.compareAndSet(current, current + bytes));
+        return true;
+    }
+
+    private void releaseCollected() {
+        Reference<? extends Throwable> reference;
+        while ((reference = this.collected.poll()) != null) {
+            Charge charge = (Charge) reference;
+            if (this.charges.remove(charge, charge)) {
+                this.retainedBytes.addAndGet(-charge.bytes);
+            }
+        }
+    }
+
+    /**
+     * The charge for a kept failure, returned once the failure is garbage collected. Charges are
+     * equal when they are for the same failure instance, so a failure is charged at most once.
+     */
+    private static final class Charge extends WeakReference<Throwable> {
+
+        final long bytes;
+        private final int hash;
+
+        Charge(Throwable failure, long bytes, ReferenceQueue<Throwable> queue) {
+            super(failure, queue);
+            this.bytes = bytes;
+            this.hash = System.identityHashCode(failure);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Charge)) {
+                return false;
+            }
+            Throwable failure = get();
+            return failure != null && failure == ((Charge) obj).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
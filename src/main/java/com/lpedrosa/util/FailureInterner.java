@@ -0,0 +1,219 @@
+package com.lpedrosa.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link StackTracePolicy} that replaces structurally identical failures with a single,
+ * shared instance.
+ * <p>
+ * When a dependency is down, every call fails with an exception of the same type, with the
+ * same message, thrown from the same place. Two failures are considered identical when they
+ * have the same type, the same message, the same top stack frames and causes of the same
+ * types, so a wrapper is not shared between failures with different root causes, although
+ * the messages and stack traces of the causes are those of the first failure. The first failure
+ * with a given key becomes the canonical instance, with its stack trace truncated to the
+ * frames of the key, and later identical failures are replaced by it, so a large result set
+ * holds one Throwable per distinct failure rather than one per Try. Since shared failures
+ * are the same instance, {@link Try#equals(Object)} finds them equal by identity, without
+ * comparing the Throwables.
+ * <p>
+ * Canonical instances are kept in a fixed-size table, so the interner never grows: a key
+ * that finds its slots taken by other keys replaces one of them. The table is updated
+ * without locking, and concurrent first failures with the same key may briefly produce more
+ * than one canonical instance.
+ * <p>
+ * Building the key reads the stack trace of every failure, which costs about as much as
+ * printing it.
+ * <p>
+ * The canonical instance is shared, and a Throwable is mutable: whatever is done to it is
+ * seen by every failure holding it. In particular, a failure rethrown by {@link Try#get()}
+ * inside a try-with-resources statement whose resource also fails to close gets the
+ * exception of {@code close()} added to its suppressed exceptions, so the suppressed
+ * exceptions of a canonical instance accumulate across callers. Use {@link Try#getCause()}
+ * or {@link Try#orElse(Object)} instead of {@code get()} in such statements.
+ *
+ * @author lpedrosa
+ */
+public final class FailureInterner extends StackTracePolicy {
+
+    private static final int DEFAULT_TOP_FRAMES = 3;
+
+    /** Bounds the walk through the chain of causes, which may contain a cycle. */
+    private static final int MAX_CAUSES = 32;
+
+    private static final Class<?>[] NO_CAUSES = new Class<?>[0];
+
+    /** The number of consecutive slots a key may occupy, starting at the one its hash selects. */
+    private static final int PROBES = 4;
+
+    private final AtomicReferenceArray<Entry> table;
+    private final int mask;
+    private final int topFrames;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Returns an interner keeping up to the specified number of canonical failures, keyed by
+     * their type, message and top 3 stack frames.
+     * @param capacity the maximum number of canonical failures, rounded up to a power of two,
+     * which must be positive
+     * @return a new failure interner
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public static FailureInterner of(int capacity) {
+        return of(capacity, DEFAULT_TOP_FRAMES);
+    }
+
+    /**
+     * Returns an interner keeping up to the specified number of canonical failures, keyed by
+     * their type, message and the specified number of top stack frames.
+     * @param capacity the maximum number of canonical failures, rounded up to a power of two,
+     * which must be positive
+     * @param topFrames the number of stack frames, counting from the top, that are part of
+     * the key and kept in the canonical instance, which must not be negative
+     * @return a new failure interner
+     * @throws IllegalArgumentException if capacity is not positive, if it is greater than
+     * 2<sup>30</sup>, or if topFrames is negative
+     */
+    public static FailureInterner of(int capacity, int topFrames) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        if (topFrames < 0) {
+            throw new IllegalArgumentException("topFrames must not be negative: " + topFrames);
+        }
+        return new FailureInterner(capacity, topFrames);
+    }
+
+    private FailureInterner(int capacity, int topFrames) {
+        int size = Integer.highestOneBit(capacity);
+        size = size < capacity ? size << 1 : size;
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.topFrames = topFrames;
+    }
+
+    /**
+     * Returns the canonical instance of the specified failure, which is the failure itself,
+     * truncated to its top frames, if it is the first one with its key.
+     * @param failure the captured Throwable, which is non-null
+     * @return the canonical instance for the failure
+     */
+    @Override
+    public Throwable apply(Throwable failure) {
+        StackTraceElement[] frames = failure.getStackTrace();
+        if (frames.length > this.topFrames) {
+            frames = Arrays.copyOf(frames, this.topFrames);
+        }
+        String message = failure.getMessage();
+        Class<?>[] causeTypes = causeTypes(failure);
+        int hash = hash(failure.getClass(), message, frames, causeTypes);
+
+        int home = hash & this.mask;
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (home + i) & this.mask;
+            Entry entry = this.table.get(slot);
+            if (entry == null) {
+                Entry created = new Entry(hash, message, frames, causeTypes, canonical(failure, frames));
+                if (this.table.compareAndSet(slot, null, created)) {
+                    this.misses.increment();
+                    return created.canonical;
+                }
+                entry = this.table.get(slot);
+            }
+            if (entry.matches(hash, failure.getClass(), message, frames, causeTypes)) {
+                this.hits.increment();
+                return entry.canonical;
+            }
+        }
+
+        this.misses.increment();
+        Entry created = new Entry(hash, message, frames, causeTypes, canonical(failure, frames));
+        this.table.set(home, created);
+        return created.canonical;
+    }
+
+    /**
+     * Returns the number of failures that were replaced by an existing canonical instance.
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    /**
+     * Returns the number of failures that became a canonical instance.
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the maximum number of canonical failures this interner keeps.
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return this.table.length();
+    }
+
+    private static Throwable canonical(Throwable failure, StackTraceElement[] frames) {
+        setStackTrace(failure, frames);
+        return failure;
+    }
+
+    /**
+     * Returns the types of the causes of the specified failure, from the direct cause to the root cause.
+     */
+    private static Class<?>[] causeTypes(Throwable failure) {
+        Throwable cause = failure.getCause();
+        if (cause == null || cause == failure) {
+            return NO_CAUSES;
+        }
+        List<Class<?>> types = new ArrayList<>(2);
+        for (int i = 0; cause != null && i < MAX_CAUSES; i++) {
+            types.add(cause.getClass());
+            Throwable next = cause.getCause();
+            cause = next == cause ? null : next;
+        }
+        return types.toArray(NO_CAUSES);
+    }
+
+    private static int hash(Class<?> type, String message, StackTraceElement[] frames, Class<?>[] causeTypes) {
+        int hash = type.hashCode() * 31 + Objects.hashCode(message);
+        hash = hash * 31 + Arrays.hashCode(frames);
+        hash = hash * 31 + Arrays.hashCode(causeTypes);
+        // spread the high bits, which the mask would otherwise ignore
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+
+        final int hash;
+        final String message;
+        final StackTraceElement[] frames;
+        final Class<?>[] causeTypes;
+        final Throwable canonical;
+
+        Entry(int hash, String message, StackTraceElement[] frames, Class<?>[] causeTypes, Throwable canonical) {
+            this.hash = hash;
+            this.message = message;
+            this.frames = frames;
+            this.causeTypes = causeTypes;
+            this.canonical = canonical;
+        }
+
+        boolean matches(int hash, Class<?> type, String message, StackTraceElement[] frames, Class<?>[] causeTypes) {
+            return this.hash == hash
+                   && this.canonical.getClass() == type
+                   && Objects.equals(this.message, message)
+                   && Arrays.equals(this.frames, frames)
+                   && Arrays.equals(this.causeTypes, causeTypes);
+        }
+    }
+}
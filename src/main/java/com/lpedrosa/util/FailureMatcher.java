@@ -0,0 +1,179 @@
+package com.lpedrosa.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A table of handlers indexed by exception type, used by {@link Try#recoverMatching(FailureMatcher)}
+ * and {@link Try#mapFailure(FailureMatcher)} in place of a chain of {@code instanceof} checks.
+ * <p>
+ * The handler for a failure is the one registered for its most specific type, i.e. its own
+ * class, or else the closest of its superclasses. The resolution is done once per exception
+ * class and cached in a {@link ClassValue}, so matching a failure is a single lookup, however
+ * many handlers the table holds. When built with {@link Builder#matchingCauses()}, a failure
+ * without a handler is matched through its causes, from the outermost to the innermost, and
+ * the handler receives the cause that matched.
+ * Example:
+ * <pre>
+ * {@code
+ * FailureMatcher<Response> toResponse = FailureMatcher.<Response>builder()
+ *         .on(NoSuchElementException.class, e -> Response.notFound())
+ *         .on(IllegalArgumentException.class, e -> Response.badRequest(e.getMessage()))
+ *         .on(IOException.class, e -> Response.unavailable())
+ *         .matchingCauses()
+ *         .build();
+ *
+ * Try<Response> response = handle(request).recoverMatching(toResponse);
+ * }
+ * </pre>
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ *
+ * @param <R> the type of the result of the handlers
+ * @author lpedrosa
+ */
+public final class FailureMatcher<R> {
+
+    /** Bounds the walk through the chain of causes, which may contain a cycle. */
+    private static final int MAX_CAUSES = 32;
+
+    /** Cached for the types without a handler, so that a miss is resolved only once too. */
+    private static final Function<Throwable, ?> NO_HANDLER = t -> null;
+
+    private final Map<Class<?>, Function<Throwable, ? extends R>> handlers;
+    private final boolean matchingCauses;
+    private final ClassValue<Function<Throwable, ? extends R>> resolved =
+            new ClassValue<Function<Throwable, ? extends R>>() {
+                @Override
+                protected Function<Throwable, ? extends R> computeValue(Class<?> type) {
+                    return resolve(type);
+                }
+            };
+
+    /**
+     * Returns a builder for a new matcher, with no handlers.
+     * @param <R> the type of the result of the handlers
+     * @return a new builder
+     */
+    public static <R> Builder<R> builder() {
+        return new Builder<>();
+    }
+
+    private FailureMatcher(Map<Class<?>, Function<Throwable, ? extends R>> handlers, boolean matchingCauses) {
+        this.handlers = handlers;
+        this.matchingCauses = matchingCauses;
+    }
+
+    /**
+     * Return true if there is a handler for the specified failure, or, if this matcher walks
+     * causes, for one of its causes.
+     * @param failure the failure to match, which must be non-null
+     * @return true if a handler matches, otherwise false
+     * @throws NullPointerException if failure is null
+     */
+    public boolean matches(Throwable failure) {
+        return find(Objects.requireNonNull(failure)) != null;
+    }
+
+    /**
+     * Returns the failure, or cause, the handler of which applies to the specified failure,
+     * or null if there is none.
+     */
+    Throwable find(Throwable failure) {
+        if (handlerFor(failure) != null) {
+            return failure;
+        }
+        if (!this.matchingCauses) {
+            return null;
+        }
+
+        Throwable current = failure;
+        for (int i = 0; i < MAX_CAUSES; i++) {
+            Throwable cause = current.getCause();
+            if (cause == null || cause == current) {
+                return null;
+            }
+            if (handlerFor(cause) != null) {
+                return cause;
+            }
+            current = cause;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the handler for the specified failure itself, without walking its causes, or
+     * null if there is none.
+     */
+    Function<Throwable, ? extends R> handlerFor(Throwable failure) {
+        Function<Throwable, ? extends R> handler = this.resolved.get(failure.getClass());
+        return handler == NO_HANDLER ? null : handler;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Throwable, ? extends R> resolve(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Function<Throwable, ? extends R> handler = this.handlers.get(current);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        return (Function<Throwable, ? extends R>) NO_HANDLER;
+    }
+
+    /**
+     * A builder of {@link FailureMatcher} instances. A builder is not thread-safe, and should
+     * not be used once it has built a matcher.
+     *
+     * @param <R> the type of the result of the handlers
+     */
+    public static final class Builder<R> {
+
+        private final Map<Class<?>, Function<Throwable, ? extends R>> handlers = new HashMap<>();
+        private boolean matchingCauses;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the handler for failures of the specified type and its subtypes, unless
+         * a handler is registered for a more specific type.
+         * @param <X> the type of failure handled
+         * @param type the type of failure handled, which must be non-null
+         * @param handler the handler, which must be non-null
+         * @return this builder
+         * @throws NullPointerException if type or handler is null
+         * @throws IllegalArgumentException if a handler is already registered for type
+         */
+        @SuppressWarnings("unchecked")
+        public <X extends Throwable> Builder<R> on(Class<X> type, Function<? super X, ? extends R> handler) {
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(handler);
+
+            if (this.handlers.putIfAbsent(type, (Function<Throwable, ? extends R>) handler) != null) {
+                throw new IllegalArgumentException("A handler is already registered for " + type.getName());
+            }
+            return this;
+        }
+
+        /**
+         * Makes the matcher walk the chain of causes of a failure that has no handler, and
+         * apply the handler of the first cause that has one.
+         * @return this builder
+         */
+        public Builder<R> matchingCauses() {
+            this.matchingCauses = true;
+            return this;
+        }
+
+        /**
+         * Returns a matcher with the handlers registered so far.
+         * @return a new matcher
+         */
+        public FailureMatcher<R> build() {
+            return new FailureMatcher<>(new HashMap<>(this.handlers), this.matchingCauses);
+        }
+    }
+}
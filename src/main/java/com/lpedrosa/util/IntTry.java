@@ -0,0 +1,329 @@
+package com.lpedrosa.util;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+import com.lpedrosa.util.function.ThrowableIntSupplier;
+
+/**
+ * A primitive specialization of {@link Try} for {@code int} values. A success holds
+ * the {@code int} value directly, so creating, mapping and reading a successful
+ * IntTry never boxes it into an {@code Integer}.
+ * <p>
+ * Bridges to the other specializations and to {@link Try} are available through the
+ * {@code mapToXxx} and {@link #mapToObj(IntFunction)} methods, and {@link Try} offers the
+ * reverse bridges, e.g. {@link Try#mapToInt(ToIntFunction)}.
+ * <p>
+ * Instances of this class can be created by using one the following static methods:
+ * {@link #of(ThrowableIntSupplier)}, {@link #success(int)}, {@link #failure(Throwable)}
+ *
+ * @author lpedrosa
+ * @see Try
+ */
+public final class IntTry {
+
+        private final int value;
+        private final Throwable error;
+
+        /**
+         * Returns an IntTry instance holding the value of the specified computation, if successful.
+         * The IntTry might result in a failure if the supplier has thrown an exception.
+         * @param supplier a supplier that might throw an exception, which must be non-null
+         * @return an IntTry representing the success or failure of the provided computation
+         * @throws NullPointerException if supplier is null
+         */
+        public static IntTry of(ThrowableIntSupplier supplier) {
+            Objects.requireNonNull(supplier);
+
+            int computed;
+            try {
+                computed = supplier.getAsInt();
+            } catch (Throwable t) {
+                return new IntTry(0, StackTracePolicy.capture(t));
+            }
+            return new IntTry(computed, null);
+        }
+
+        /**
+         * Returns an IntTry instance, representing a success with the specified value
+         * @param value the successful value
+         * @return a success instance with the specified value
+         */
+        public static IntTry success(int value) {
+            return new IntTry(value, null);
+        }
+
+        /**
+         * Returns an IntTry instance, representing a failure with the specified throwable
+         * @param t the throwable contained in this failure instance, which must be non-null
+         * @return a failure instance with the specified throwable
+         * @throws NullPointerException if t is null
+         */
+        public static IntTry failure(Throwable t) {
+            Objects.requireNonNull(t);
+
+            return new IntTry(0, t);
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this IntTry, if it represents a success.
+         * Otherwise return this instance if it is a failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return an IntTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise this failure instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public IntTry map(IntUnaryOperator mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return this;
+            }
+
+            int mapped;
+            try {
+                mapped = mapper.applyAsInt(this.value);
+            } catch (Throwable t) {
+                return new IntTry(0, StackTracePolicy.capture(t));
+            }
+            return new IntTry(mapped, null);
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this IntTry, if it represents a success.
+         * Otherwise return a LongTry representing the same failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a LongTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure LongTry instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public LongTry mapToLong(IntToLongFunction mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return LongTry.failure(this.error);
+            }
+
+            try {
+                return LongTry.success(mapper.applyAsLong(this.value));
+            } catch (Throwable t) {
+                return LongTry.failure(StackTracePolicy.capture(t));
+            }
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this IntTry, if it represents a success.
+         * Otherwise return a DoubleTry representing the same failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a DoubleTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure DoubleTry instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public DoubleTry mapToDouble(IntToDoubleFunction mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return DoubleTry.failure(this.error);
+            }
+
+            try {
+                return DoubleTry.success(mapper.applyAsDouble(this.value));
+            } catch (Throwable t) {
+                return DoubleTry.failure(StackTracePolicy.capture(t));
+            }
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this IntTry, if it represents a success,
+         * bridging to a {@link Try}. Otherwise return a Try representing the same failure.
+         * @param <U> The type of the result of the mapping function
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a Try describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure Try instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> Try<U> mapToObj(IntFunction<? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return Try.failure(this.error);
+            }
+
+            return Try.of(() -> mapper.apply(this.value));
+        }
+
+        /**
+         * Applies the provided IntTry-bearing mapping function to the value of this IntTry, if it represents
+         * a success. Otherwise return this instance if it is a failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return the IntTry returned by the mapping function, if this represents a success,
+         * otherwise this failure instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public IntTry flatMap(IntFunction<IntTry> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return this;
+            }
+
+            return mapper.apply(this.value);
+        }
+
+        /**
+         * If this IntTry represents a success, and the value matches the given predicate, return this
+         * instance, otherwise return an IntTry, representing a failure, wrapping a {@link PredicateFailedException}.
+         * @param predicate a predicate to apply to the value, if success
+         * @return this instance if success and the value matches the given predicate,
+         * otherwise an IntTry describing a failure, wrapping a PredicateFailedException
+         * @throws NullPointerException if the predicate is null
+         */
+        public IntTry filter(IntPredicate predicate) {
+            Objects.requireNonNull(predicate);
+
+            if (this.error != null || predicate.test(this.value))
+                return this;
+
+            return new IntTry(0, new PredicateFailedException(this.value));
+        }
+
+        /**
+         * Applies the provided recover function to the throwable of this try, if it is a failure.
+         * Otherwise return this instance if this is a success.
+         * @param recoverFunc a recover function to apply the throwable, if failure
+         * @return an IntTry describing the result of applying a recover function to the throwable of
+         * this try, if it represents a failure, otherwise this success instance
+         * @throws NullPointerException if the recover function is null
+         */
+        public IntTry recover(ToIntFunction<Throwable> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            if (this.error == null) {
+                return this;
+            }
+
+            int recovered;
+            try {
+                recovered = recoverFunc.applyAsInt(this.error);
+            } catch (Throwable t) {
+                return new IntTry(0, StackTracePolicy.capture(t));
+            }
+            return new IntTry(recovered, null);
+        }
+
+        /**
+         * Applies the provided IntTry-bearing recover function to the throwable of this try, if it is a
+         * failure. Otherwise return this instance if this is a success.
+         * @param recoverFunc a recover function to apply the throwable, if failure
+         * @return the IntTry returned by the recover function, if this represents a failure,
+         * otherwise this success instance
+         * @throws NullPointerException if the recover function is null
+         */
+        public IntTry recoverWith(Function<Throwable, IntTry> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            if (this.error == null) {
+                return this;
+            }
+
+            return recoverFunc.apply(this.error);
+        }
+
+        /**
+         * If this IntTry represents a success, return the underlying value. Otherwise, throw the Throwable
+         * associated with the failure.
+         * @return the value held by this IntTry, if it represents a success
+         * @throws Throwable if this represents a failure
+         */
+        public int getAsInt() throws Throwable {
+            if (this.error != null) {
+                throw this.error;
+            }
+            return this.value;
+        }
+
+        /**
+         * Return the underlying value, if this represents a success. Otherwise return other
+         * @param other the value to be returned if this represents a failure
+         * @return the value, if success, otherwise other
+         */
+        public int orElse(int other) {
+            return this.error != null ? other : this.value;
+        }
+
+        /**
+         * Return this instance, if this represents a success. Otherwise invoke other
+         * and return the result of that invocation wrapped in an IntTry.
+         * @param other a supplier whose result is returned (wrapped in an IntTry) if this is a failure
+         * @return this instance, if success, otherwise the result of other wrapped in an IntTry
+         * @throws NullPointerException if other is null
+         */
+        public IntTry orElseGet(ThrowableIntSupplier other) {
+            Objects.requireNonNull(other);
+            return this.error != null ? IntTry.of(other) : this;
+        }
+
+        /**
+         * Return true if this represents a failure, otherwise false
+         * @return true if this is a failure, otherwise false
+         */
+        public boolean isFailure() {
+            return this.error != null;
+        }
+
+        /**
+         * Indicates whether some other object is "equal to" this IntTry. The other object is
+         * considered equal if it is also an IntTry and either both are failures with Throwables
+         * "equal to" each other via {@code equals()}, or both are successes with the same value
+         * (as compared by {@link Integer#equals(Object)}).
+         * @param obj an object to be tested for equality
+         * @return if the other object is "equal to" this object otherwise false
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof IntTry)) {
+                return false;
+            }
+
+            IntTry other = (IntTry) obj;
+            if (this.error != null || other.error != null) {
+                return Objects.equals(this.error, other.error);
+            }
+            return this.value == other.value;
+        }
+
+        /**
+         * Returns the hash code value of the underlying value, if this represents a success,
+         * or the hash code value of the Throwable, if this represents a failure.
+         * @return hash code value of the underlying value or Throwable
+         */
+        @Override
+        public int hashCode() {
+            return this.error != null ? this.error.hashCode() : Integer.hashCode(this.value);
+        }
+
+        /**
+         * Returns a non-empty string representation of this IntTry suitable for debugging.
+         * @return a string representation of this instance
+         */
+        @Override
+        public String toString() {
+            return this.error != null ? "IntTry.failure(" + this.error + ")"
+                                      : "IntTry.success(" + this.value + ")";
+        }
+
+        private IntTry(int value, Throwable error) {
+            this.value = value;
+            this.error = error;
+        }
+}
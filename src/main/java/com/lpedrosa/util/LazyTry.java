@@ -0,0 +1,291 @@
+package com.lpedrosa.util;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.lpedrosa.util.function.ThrowableSupplier;
+
+/**
+ * A deferred {@link Try}: the wrapped computation only runs the first time its result is
+ * requested, through {@link #get()}, {@link #orElse(Object)}, {@link #isFailure()} or
+ * {@link #toTry()}, and at most once, even when requested concurrently. A LazyTry whose
+ * result is never requested never runs.
+ * <p>
+ * {@link #map(Function)}, {@link #flatMap(Function)}, {@link #filter(Predicate)} and
+ * {@link #recover(Function)} do not run anything either. They chain the new stage onto this
+ * instance, so evaluating the resulting LazyTry runs every stage in a single pass:
+ * <pre>
+ * {@code
+ * LazyTry<Integer> length = LazyTry.of(() -> readPayload())
+ *                                  .map(String::trim)
+ *                                  .map(String::length);
+ * }
+ * </pre>
+ * Each stage memoizes its raw outcome, i.e. its value or throwable, on the way, so a LazyTry
+ * shared by several derived pipelines runs at most once, whichever of them is evaluated
+ * first, and every derived pipeline sees the same result as the shared LazyTry. Stages pass
+ * a failure on as it is, without throwing it again, and no Try is created until one is
+ * requested through {@link #toTry()}.
+ * <p>
+ * Exceptions thrown by the computation or by a stage go through the default
+ * {@link StackTracePolicy}, once, as in {@link Try#of(ThrowableSupplier)}.
+ *
+ * @author lpedrosa
+ * @param <T> the type of the value of the computation
+ * @see Try
+ */
+public final class LazyTry<T> {
+
+        private static final int PENDING = 0;
+        private static final int SUCCESS = 1;
+        private static final int FAILURE = 2;
+
+        private static final int SOURCE = 0;
+        private static final int MAP = 1;
+        private static final int FLAT_MAP = 2;
+        private static final int FILTER = 3;
+        private static final int RECOVER = 4;
+
+        private final int kind;
+        // the supplier of a source, or the function or predicate of a stage; released once evaluated
+        private Object function;
+        private LazyTry<?> upstream;
+
+        // written before the state, and read after it, so the volatile state publishes it
+        private Object outcome;
+        private volatile int state;
+        private volatile Try<T> result;
+
+        /**
+         * Returns a LazyTry that will hold the value of the specified computation, once evaluated.
+         * @param <T> the class of the value
+         * @param supplier a supplier that might throw an exception, which must be non-null
+         * @return a LazyTry describing the deferred computation
+         * @throws NullPointerException if supplier is null
+         */
+        public static <T> LazyTry<T> of(ThrowableSupplier<T> supplier) {
+            Objects.requireNonNull(supplier);
+
+            return new LazyTry<>(SOURCE, supplier, null);
+        }
+
+        /**
+         * Returns a LazyTry whose result is the specified Try, already evaluated.
+         * @param <T> the class of the value
+         * @param result the result, which must be non-null
+         * @return an evaluated LazyTry holding the specified result
+         * @throws NullPointerException if result is null
+         */
+        public static <T> LazyTry<T> evaluated(Try<T> result) {
+            Objects.requireNonNull(result);
+
+            LazyTry<T> lazy = new LazyTry<>(SOURCE, null, null);
+            lazy.outcome = result.isFailure() ? result.cause() : result.value();
+            lazy.result = result;
+            lazy.state = result.isFailure() ? FAILURE : SUCCESS;
+            return lazy;
+        }
+
+        /**
+         * Returns a LazyTry that applies the provided mapping function to the value of this
+         * computation, if it succeeds. Nothing is evaluated until the result is requested.
+         * @param <U> The type of the result of the mapping function
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a LazyTry describing the mapped computation
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> LazyTry<U> map(Function<? super T, ? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+
+            return new LazyTry<>(MAP, mapper, this);
+        }
+
+        /**
+         * Returns a LazyTry that continues with the LazyTry returned by the provided mapping function,
+         * if this computation succeeds. Nothing is evaluated until the result is requested.
+         * @param <U> The type parameter of the LazyTry returned by the mapping function
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a LazyTry describing the composed computation
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> LazyTry<U> flatMap(Function<? super T, LazyTry<U>> mapper) {
+            Objects.requireNonNull(mapper);
+
+            return new LazyTry<>(FLAT_MAP, mapper, this);
+        }
+
+        /**
+         * Returns a LazyTry that fails with a {@link PredicateFailedException} if the value of this
+         * computation does not match the given predicate. Nothing is evaluated until the result is requested.
+         * @param predicate a predicate to apply to the value, if success
+         * @return a LazyTry describing the filtered computation
+         * @throws NullPointerException if the predicate is null
+         */
+        public LazyTry<T> filter(Predicate<? super T> predicate) {
+            Objects.requireNonNull(predicate);
+
+            return new LazyTry<>(FILTER, predicate, this);
+        }
+
+        /**
+         * Returns a LazyTry that applies the provided recover function to the throwable of this
+         * computation, if it fails. Nothing is evaluated until the result is requested.
+         * @param recoverFunc a recover function to apply to the throwable, if failure
+         * @return a LazyTry describing the recovered computation
+         * @throws NullPointerException if the recover function is null
+         */
+        public LazyTry<T> recover(Function<Throwable, T> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            return new LazyTry<>(RECOVER, recoverFunc, this);
+        }
+
+        /**
+         * Evaluates this computation, if not evaluated yet, and returns its value. Otherwise, throw
+         * the Throwable associated with the failure.
+         * @return the value of this computation, if it represents a success
+         * @throws Throwable if this represents a failure
+         */
+        public T get() throws Throwable {
+            if (evaluate() == FAILURE) {
+                throw (Throwable) this.outcome;
+            }
+            return value();
+        }
+
+        /**
+         * Evaluates this computation, if not evaluated yet, and returns its value if it represents a
+         * success. Otherwise return other
+         * @param other the value to be returned if this represents a failure, may be null
+         * @return the value, if success, otherwise other
+         */
+        public T orElse(T other) {
+            return evaluate() == FAILURE ? other : value();
+        }
+
+        /**
+         * Evaluates this computation, if not evaluated yet, and returns true if it represents a failure
+         * @return true if this is a failure, otherwise false
+         */
+        public boolean isFailure() {
+            return evaluate() == FAILURE;
+        }
+
+        /**
+         * Return true if this computation has already been evaluated, otherwise false. Does not evaluate it.
+         * @return true if the result is available, otherwise false
+         */
+        public boolean isEvaluated() {
+            return this.state != PENDING;
+        }
+
+        /**
+         * Evaluates this computation, if not evaluated yet, and returns its memoized result.
+         * @return a Try describing the success or failure of this computation
+         */
+        public Try<T> toTry() {
+            Try<T> evaluated = this.result;
+            if (evaluated != null) {
+                return evaluated;
+            }
+
+            int outcomeState = evaluate();
+            synchronized (this) {
+                evaluated = this.result;
+                if (evaluated == null) {
+                    evaluated = outcomeState == FAILURE ? Try.failure((Throwable) this.outcome) : Try.ofValue(value());
+                    this.result = evaluated;
+                }
+                return evaluated;
+            }
+        }
+
+        /**
+         * Returns a non-empty string representation of this LazyTry suitable for debugging.
+         * Does not evaluate it.
+         * @return a string representation of this instance
+         */
+        @Override
+        public String toString() {
+            return isEvaluated() ? "LazyTry(" + toTry() + ")" : "LazyTry(<not evaluated>)";
+        }
+
+        private LazyTry(int kind, Object function, LazyTry<?> upstream) {
+            this.kind = kind;
+            this.function = function;
+            this.upstream = upstream;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T value() {
+            return (T) this.outcome;
+        }
+
+        /**
+         * Evaluates this stage, and the stages it depends on, if not evaluated yet, and returns
+         * its state, after which its outcome may be read.
+         */
+        private int evaluate() {
+            int current = this.state;
+            if (current != PENDING) {
+                return current;
+            }
+
+            synchronized (this) {
+                current = this.state;
+                if (current == PENDING) {
+                    current = run();
+                    this.function = null;
+                    this.upstream = null;
+                }
+                return current;
+            }
+        }
+
+        /**
+         * Runs this stage on the outcome of its upstream, and stores its own outcome. Failures of
+         * the upstream are passed on as they are; only the exceptions thrown by this stage go
+         * through the stack trace policy.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private int run() {
+            boolean upstreamFailed = false;
+            Object input = null;
+            if (this.kind != SOURCE) {
+                upstreamFailed = this.upstream.evaluate() == FAILURE;
+                input = this.upstream.outcome;
+                // recover stages only run on failures, every other stage only on successes
+                if ((this.kind == RECOVER) != upstreamFailed) {
+                    return complete(input, upstreamFailed ? FAILURE : SUCCESS);
+                }
+            }
+
+            try {
+                switch (this.kind) {
+                case SOURCE:
+                    return complete(((ThrowableSupplier) this.function).get(), SUCCESS);
+                case MAP:
+                case RECOVER:
+                    return complete(((Function) this.function).apply(input), SUCCESS);
+                case FLAT_MAP:
+                    LazyTry<?> next = (LazyTry<?>) ((Function) this.function).apply(input);
+                    int nextState = next.evaluate();
+                    return complete(next.outcome, nextState);
+                default:
+                    if (((Predicate) this.function).test(input)) {
+                        return complete(input, SUCCESS);
+                    }
+                    return complete(new PredicateFailedException(input), FAILURE);
+                }
+            } catch (Throwable t) {
+                return complete(StackTracePolicy.capture(t), FAILURE);
+            }
+        }
+
+        private int complete(Object completed, int completedState) {
+            this.outcome = completed;
+            this.state = completedState;
+            return completedState;
+        }
+}
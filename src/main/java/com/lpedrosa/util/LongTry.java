@@ -0,0 +1,329 @@
+package com.lpedrosa.util;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+import com.lpedrosa.util.function.ThrowableLongSupplier;
+
+/**
+ * A primitive specialization of {@link Try} for {@code long} values. A success holds
+ * the {@code long} value directly, so creating, mapping and reading a successful
+ * LongTry never boxes it into a {@code Long}.
+ * <p>
+ * Bridges to the other specializations and to {@link Try} are available through the
+ * {@code mapToXxx} and {@link #mapToObj(LongFunction)} methods, and {@link Try} offers the
+ * reverse bridges, e.g. {@link Try#mapToLong(ToLongFunction)}.
+ * <p>
+ * Instances of this class can be created by using one the following static methods:
+ * {@link #of(ThrowableLongSupplier)}, {@link #success(long)}, {@link #failure(Throwable)}
+ *
+ * @author lpedrosa
+ * @see Try
+ */
+public final class LongTry {
+
+        private final long value;
+        private final Throwable error;
+
+        /**
+         * Returns a LongTry instance holding the value of the specified computation, if successful.
+         * The LongTry might result in a failure if the supplier has thrown an exception.
+         * @param supplier a supplier that might throw an exception, which must be non-null
+         * @return a LongTry representing the success or failure of the provided computation
+         * @throws NullPointerException if supplier is null
+         */
+        public static LongTry of(ThrowableLongSupplier supplier) {
+            Objects.requireNonNull(supplier);
+
+            long computed;
+            try {
+                computed = supplier.getAsLong();
+            } catch (Throwable t) {
+                return new LongTry(0, StackTracePolicy.capture(t));
+            }
+            return new LongTry(computed, null);
+        }
+
+        /**
+         * Returns a LongTry instance, representing a success with the specified value
+         * @param value the successful value
+         * @return a success instance with the specified value
+         */
+        public static LongTry success(long value) {
+            return new LongTry(value, null);
+        }
+
+        /**
+         * Returns a LongTry instance, representing a failure with the specified throwable
+         * @param t the throwable contained in this failure instance, which must be non-null
+         * @return a failure instance with the specified throwable
+         * @throws NullPointerException if t is null
+         */
+        public static LongTry failure(Throwable t) {
+            Objects.requireNonNull(t);
+
+            return new LongTry(0, t);
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this LongTry, if it represents a success.
+         * Otherwise return this instance if it is a failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a LongTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise this failure instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public LongTry map(LongUnaryOperator mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return this;
+            }
+
+            long mapped;
+            try {
+                mapped = mapper.applyAsLong(this.value);
+            } catch (Throwable t) {
+                return new LongTry(0, StackTracePolicy.capture(t));
+            }
+            return new LongTry(mapped, null);
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this LongTry, if it represents a success.
+         * Otherwise return an IntTry representing the same failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return an IntTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure IntTry instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public IntTry mapToInt(LongToIntFunction mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return IntTry.failure(this.error);
+            }
+
+            try {
+                return IntTry.success(mapper.applyAsInt(this.value));
+            } catch (Throwable t) {
+                return IntTry.failure(StackTracePolicy.capture(t));
+            }
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this LongTry, if it represents a success.
+         * Otherwise return a DoubleTry representing the same failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a DoubleTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure DoubleTry instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public DoubleTry mapToDouble(LongToDoubleFunction mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return DoubleTry.failure(this.error);
+            }
+
+            try {
+                return DoubleTry.success(mapper.applyAsDouble(this.value));
+            } catch (Throwable t) {
+                return DoubleTry.failure(StackTracePolicy.capture(t));
+            }
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this LongTry, if it represents a success,
+         * bridging to a {@link Try}. Otherwise return a Try representing the same failure.
+         * @param <U> The type of the result of the mapping function
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a Try describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure Try instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> Try<U> mapToObj(LongFunction<? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return Try.failure(this.error);
+            }
+
+            return Try.of(() -> mapper.apply(this.value));
+        }
+
+        /**
+         * Applies the provided LongTry-bearing mapping function to the value of this LongTry, if it represents
+         * a success. Otherwise return this instance if it is a failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return the LongTry returned by the mapping function, if this represents a success,
+         * otherwise this failure instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public LongTry flatMap(LongFunction<LongTry> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.error != null) {
+                return this;
+            }
+
+            return mapper.apply(this.value);
+        }
+
+        /**
+         * If this LongTry represents a success, and the value matches the given predicate, return this
+         * instance, otherwise return a LongTry, representing a failure, wrapping a {@link PredicateFailedException}.
+         * @param predicate a predicate to apply to the value, if success
+         * @return this instance if success and the value matches the given predicate,
+         * otherwise a LongTry describing a failure, wrapping a PredicateFailedException
+         * @throws NullPointerException if the predicate is null
+         */
+        public LongTry filter(LongPredicate predicate) {
+            Objects.requireNonNull(predicate);
+
+            if (this.error != null || predicate.test(this.value))
+                return this;
+
+            return new LongTry(0, new PredicateFailedException(this.value));
+        }
+
+        /**
+         * Applies the provided recover function to the throwable of this try, if it is a failure.
+         * Otherwise return this instance if this is a success.
+         * @param recoverFunc a recover function to apply the throwable, if failure
+         * @return a LongTry describing the result of applying a recover function to the throwable of
+         * this try, if it represents a failure, otherwise this success instance
+         * @throws NullPointerException if the recover function is null
+         */
+        public LongTry recover(ToLongFunction<Throwable> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            if (this.error == null) {
+                return this;
+            }
+
+            long recovered;
+            try {
+                recovered = recoverFunc.applyAsLong(this.error);
+            } catch (Throwable t) {
+                return new LongTry(0, StackTracePolicy.capture(t));
+            }
+            return new LongTry(recovered, null);
+        }
+
+        /**
+         * Applies the provided LongTry-bearing recover function to the throwable of this try, if it is a
+         * failure. Otherwise return this instance if this is a success.
+         * @param recoverFunc a recover function to apply the throwable, if failure
+         * @return the LongTry returned by the recover function, if this represents a failure,
+         * otherwise this success instance
+         * @throws NullPointerException if the recover function is null
+         */
+        public LongTry recoverWith(Function<Throwable, LongTry> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            if (this.error == null) {
+                return this;
+            }
+
+            return recoverFunc.apply(this.error);
+        }
+
+        /**
+         * If this LongTry represents a success, return the underlying value. Otherwise, throw the Throwable
+         * associated with the failure.
+         * @return the value held by this LongTry, if it represents a success
+         * @throws Throwable if this represents a failure
+         */
+        public long getAsLong() throws Throwable {
+            if (this.error != null) {
+                throw this.error;
+            }
+            return this.value;
+        }
+
+        /**
+         * Return the underlying value, if this represents a success. Otherwise return other
+         * @param other the value to be returned if this represents a failure
+         * @return the value, if success, otherwise other
+         */
+        public long orElse(long other) {
+            return this.error != null ? other : this.value;
+        }
+
+        /**
+         * Return this instance, if this represents a success. Otherwise invoke other
+         * and return the result of that invocation wrapped in a LongTry.
+         * @param other a supplier whose result is returned (wrapped in a LongTry) if this is a failure
+         * @return this instance, if success, otherwise the result of other wrapped in a LongTry
+         * @throws NullPointerException if other is null
+         */
+        public LongTry orElseGet(ThrowableLongSupplier other) {
+            Objects.requireNonNull(other);
+            return this.error != null ? LongTry.of(other) : this;
+        }
+
+        /**
+         * Return true if this represents a failure, otherwise false
+         * @return true if this is a failure, otherwise false
+         */
+        public boolean isFailure() {
+            return this.error != null;
+        }
+
+        /**
+         * Indicates whether some other object is "equal to" this LongTry. The other object is
+         * considered equal if it is also a LongTry and either both are failures with Throwables
+         * "equal to" each other via {@code equals()}, or both are successes with the same value
+         * (as compared by {@link Long#equals(Object)}).
+         * @param obj an object to be tested for equality
+         * @return if the other object is "equal to" this object otherwise false
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof LongTry)) {
+                return false;
+            }
+
+            LongTry other = (LongTry) obj;
+            if (this.error != null || other.error != null) {
+                return Objects.equals(this.error, other.error);
+            }
+            return this.value == other.value;
+        }
+
+        /**
+         * Returns the hash code value of the underlying value, if this represents a success,
+         * or the hash code value of the Throwable, if this represents a failure.
+         * @return hash code value of the underlying value or Throwable
+         */
+        @Override
+        public int hashCode() {
+            return this.error != null ? this.error.hashCode() : Long.hashCode(this.value);
+        }
+
+        /**
+         * Returns a non-empty string representation of this LongTry suitable for debugging.
+         * @return a string representation of this instance
+         */
+        @Override
+        public String toString() {
+            return this.error != null ? "LongTry.failure(" + this.error + ")"
+                                      : "LongTry.success(" + this.value + ")";
+        }
+
+        private LongTry(long value, Throwable error) {
+            this.value = value;
+            this.error = error;
+        }
+}
@@ -0,0 +1,402 @@
+package com.lpedrosa.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * Off-heap storage of 8-byte primitive results, shared by {@link LongTryBuffer} and
+ * {@link DoubleTryBuffer}.
+ * <p>
+ * Values live in direct ByteBuffers, split into segments so the storage is not limited
+ * to 2GB. A packed bitmap, also off-heap, marks which positions are failures, and only the
+ * throwables of those failures are kept on the heap, indexed by position. The heap footprint
+ * of a buffer therefore depends on its number of failures rather than on its size.
+ * <p>
+ * Given a directory, the segments are mapped from a temporary file in it instead, which
+ * is not limited by {@code -XX:MaxDirectMemorySize} and is paged in and out by the
+ * operating system. The file is opened for deletion on close, so it is removed as soon as the
+ * segments are mapped, or once they are unmapped on systems that keep mapped files.
+ * <p>
+ * {@link #release()} frees or unmaps the segments right away. Every access holds a lease on
+ * the segments while it touches them, and releasing waits for the leases held by other
+ * threads, so released memory is never accessed.
+ *
+ * @author lpedrosa
+ */
+final class OffHeapSlots {
+
+    static final int DEFAULT_SEGMENT_SHIFT = 24;
+
+    /** Number of positions handled by each parallel task; a multiple of 64 so tasks never share a bitmap word. */
+    private static final int PARALLEL_CHUNK = 1 << 16;
+
+    /** Frees a direct or mapped buffer right away, or null if the JVM does not allow it. */
+    private static final Consumer<ByteBuffer> FREE = bufferFreer();
+
+    private final long size;
+    private final int segmentShift;
+    private final long segmentMask;
+    private final Path directory;
+    private final Path file;
+    private final ByteBuffer[] values;
+    private final ByteBuffer[] bitmap;
+    private final Map<Long, Throwable> errors = new ConcurrentHashMap<>();
+    /** The number of operations currently reading or writing the segments. */
+    private final AtomicInteger leases = new AtomicInteger();
+    private volatile boolean released;
+
+    OffHeapSlots(long size) {
+        this(size, DEFAULT_SEGMENT_SHIFT, null);
+    }
+
+    OffHeapSlots(long size, int segmentShift) {
+        this(size, segmentShift, null);
+    }
+
+    /**
+     * Creates storage in direct memory, if directory is null, otherwise in a temporary file
+     * created in directory.
+     */
+    OffHeapSlots(long size, int segmentShift, Path directory) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size: " + size);
+        }
+        if (segmentShift < 6 || segmentShift > 27) {
+            throw new IllegalArgumentException("Segment shift out of range: " + segmentShift);
+        }
+
+        this.size = size;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+
+        this.directory = directory;
+
+        int segments = (int) ((size + this.segmentMask) >>> segmentShift);
+        this.values = new ByteBuffer[segments];
+        this.bitmap = new ByteBuffer[segments];
+        if (directory == null) {
+            this.file = null;
+            for (int s = 0; s < segments; s++) {
+                int length = segmentLength(s);
+                this.values[s] = ByteBuffer.allocateDirect(length << 3).order(ByteOrder.nativeOrder());
+                this.bitmap[s] = ByteBuffer.allocateDirect(((length + 63) >>> 6) << 3).order(ByteOrder.nativeOrder());
+            }
+        } else {
+            this.file = mapFile(directory);
+        }
+    }
+
+    /**
+     * Maps the segments from a new temporary file in the specified directory, values first,
+     * then the bitmap, and returns the file. A new file reads as zeros, i.e. as successes.
+     */
+    private Path mapFile(Path directory) {
+        Path created;
+        try {
+            created = Files.createTempFile(directory, "trybuffer", ".bin");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (FileChannel channel = FileChannel.open(created, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.DELETE_ON_CLOSE)) {
+            // mappings stay valid once the channel is closed and, where the file system allows it,
+            // the file is deleted then, so it does not outlive the buffer even if it is never released
+            long position = 0;
+            for (int s = 0; s < this.values.length; s++) {
+                long length = (long) segmentLength(s) << 3;
+                this.values[s] = channel.map(FileChannel.MapMode.READ_WRITE, position, length).order(ByteOrder.nativeOrder());
+                position += length;
+            }
+            for (int s = 0; s < this.bitmap.length; s++) {
+                long length = (long) ((segmentLength(s) + 63) >>> 6) << 3;
+                this.bitmap[s] = channel.map(FileChannel.MapMode.READ_WRITE, position, length).order(ByteOrder.nativeOrder());
+                position += length;
+            }
+            return created;
+        } catch (IOException e) {
+            free();
+            deleteQuietly(created);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int segmentLength(int segment) {
+        return (int) Math.min(1L << this.segmentShift, this.size - ((long) segment << this.segmentShift));
+    }
+
+    long size() {
+        return this.size;
+    }
+
+    long failureCount() {
+        return this.errors.size();
+    }
+
+    boolean isFailure(long index) {
+        checkIndex(index);
+        acquire();
+        try {
+            return bit(index);
+        } finally {
+            unlease();
+        }
+    }
+
+    long bits(long index) {
+        checkIndex(index);
+        acquire();
+        try {
+            return this.values[segment(index)].getLong(offset(index) << 3);
+        } finally {
+            unlease();
+        }
+    }
+
+    Throwable error(long index) {
+        checkIndex(index);
+        checkNotReleased();
+        return this.errors.get(index);
+    }
+
+    void setSuccess(long index, long bits) {
+        checkIndex(index);
+        acquire();
+        try {
+            if (bit(index)) {
+                clearBit(index);
+                this.errors.remove(index);
+            }
+            this.values[segment(index)].putLong(offset(index) << 3, bits);
+        } finally {
+            unlease();
+        }
+    }
+
+    void setFailure(long index, Throwable t) {
+        Objects.requireNonNull(t);
+        checkIndex(index);
+        acquire();
+        try {
+            this.values[segment(index)].putLong(offset(index) << 3, 0L);
+            markFailure(index, t);
+        } finally {
+            unlease();
+        }
+    }
+
+    /**
+     * Returns new storage in which every success of this storage is replaced by the result of
+     * applying the operator to its bits, and every failure is kept. Exceptions thrown by the
+     * operator become failures.
+     */
+    OffHeapSlots map(LongUnaryOperator operator, boolean parallel) {
+        Objects.requireNonNull(operator);
+        acquire();
+        try {
+            return mapLeased(operator, parallel);
+        } finally {
+            unlease();
+        }
+    }
+
+    private OffHeapSlots mapLeased(LongUnaryOperator operator, boolean parallel) {
+        OffHeapSlots mapped = new OffHeapSlots(this.size, this.segmentShift, this.directory);
+        for (int s = 0; s < this.bitmap.length; s++) {
+            ByteBuffer source = this.bitmap[s].duplicate();
+            source.clear();
+            mapped.bitmap[s].duplicate().put(source);
+        }
+        mapped.errors.putAll(this.errors);
+
+        if (parallel && this.size > PARALLEL_CHUNK) {
+            long chunks = (this.size + PARALLEL_CHUNK - 1) / PARALLEL_CHUNK;
+            LongStream.range(0, chunks)
+                      .parallel()
+                      .forEach(c -> mapRange(operator, mapped, c * PARALLEL_CHUNK,
+                                             Math.min(this.size, (c + 1) * PARALLEL_CHUNK)));
+        } else {
+            mapRange(operator, mapped, 0, this.size);
+        }
+        return mapped;
+    }
+
+    /** Maps [from, to), where from is a multiple of 64, writing the results into target. */
+    private void mapRange(LongUnaryOperator operator, OffHeapSlots target, long from, long to) {
+        for (long word = from; word < to; word += 64) {
+            long failureBits = this.bitmap[segment(word)].getLong((offset(word) >>> 6) << 3);
+            long end = Math.min(to, word + 64);
+            for (long i = word; i < end; i++) {
+                if ((failureBits & (1L << (i - word))) != 0) {
+                    continue;
+                }
+                ByteBuffer source = this.values[segment(i)];
+                int position = offset(i) << 3;
+                try {
+                    target.values[segment(i)].putLong(position, operator.applyAsLong(source.getLong(position)));
+                } catch (Throwable t) {
+                    target.markFailure(i, StackTracePolicy.capture(t));
+                }
+            }
+        }
+    }
+
+    private void markFailure(long index, Throwable t) {
+        ByteBuffer words = this.bitmap[segment(index)];
+        int wordPosition = (offset(index) >>> 6) << 3;
+        words.putLong(wordPosition, words.getLong(wordPosition) | (1L << (index & 63)));
+        this.errors.put(index, t);
+    }
+
+    private void clearBit(long index) {
+        ByteBuffer words = this.bitmap[segment(index)];
+        int wordPosition = (offset(index) >>> 6) << 3;
+        words.putLong(wordPosition, words.getLong(wordPosition) & ~(1L << (index & 63)));
+    }
+
+    private boolean bit(long index) {
+        long word = this.bitmap[segment(index)].getLong((offset(index) >>> 6) << 3);
+        return (word & (1L << (index & 63))) != 0;
+    }
+
+    private int segment(long index) {
+        return (int) (index >>> this.segmentShift);
+    }
+
+    private int offset(long index) {
+        return (int) (index & this.segmentMask);
+    }
+
+    /**
+     * Frees the segments right away, where the JVM allows it, rather than when this storage is
+     * garbage collected, and deletes its file, if any. Operations already running on other
+     * threads are waited for, and any later access throws an IllegalStateException; releasing
+     * twice has no effect.
+     * @throws UncheckedIOException if the file cannot be deleted
+     */
+    synchronized void release() {
+        if (this.released) {
+            return;
+        }
+        this.released = true;
+        // an operation either sees the flag and backs out, or holds a lease that is waited for
+        while (this.leases.get() != 0) {
+            Thread.yield();
+        }
+        this.errors.clear();
+        free();
+        if (this.file != null) {
+            try {
+                Files.deleteIfExists(this.file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void free() {
+        for (ByteBuffer[] buffers : new ByteBuffer[][] { this.values, this.bitmap }) {
+            for (int s = 0; s < buffers.length; s++) {
+                if (buffers[s] != null && FREE != null) {
+                    FREE.accept(buffers[s]);
+                }
+                buffers[s] = null;
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // the mapping failed first, which is the error to report
+        }
+    }
+
+    /**
+     * Returns a function freeing a direct or mapped buffer, through the cleaner of the JDK, or
+     * null if the JVM does not give access to it.
+     */
+    private static Consumer<ByteBuffer> bufferFreer() {
+        try {
+            // Java 9 and later
+            Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeType.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeType.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            return buffer -> invokeQuietly(invokeCleaner, unsafe, buffer);
+        } catch (NoSuchMethodException e) {
+            return java8BufferFreer();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Consumer<ByteBuffer> java8BufferFreer() {
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+            return buffer -> {
+                Object bufferCleaner = invokeQuietly(cleaner, buffer);
+                if (bufferCleaner != null) {
+                    invokeQuietly(clean, bufferCleaner);
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object invokeQuietly(Method method, Object target, Object... arguments) {
+        try {
+            return method.invoke(target, arguments);
+        } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
+            // the buffer is then freed when it is garbage collected
+            return null;
+        }
+    }
+
+    /**
+     * Takes a lease on the segments, which keeps them from being freed until {@link #unlease()}.
+     * @throws IllegalStateException if the storage has been released
+     */
+    private void acquire() {
+        this.leases.incrementAndGet();
+        if (this.released) {
+            unlease();
+            throw new IllegalStateException("Buffer is closed");
+        }
+    }
+
+    private void unlease() {
+        this.leases.decrementAndGet();
+    }
+
+    private void checkNotReleased() {
+        if (this.released) {
+            throw new IllegalStateException("Buffer is closed");
+        }
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.lpedrosa.util;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Thrown by a Try created with {@link Try#filter(java.util.function.Predicate)} when
+ * the value does not match the predicate.
+ * <p>
+ * Filter rejections are an expected outcome, so this exception does not capture a
+ * stack trace, and its message, which includes the rejected value, is only built
+ * when it is requested.
+ *
+ * @author lpedrosa
+ */
+public class PredicateFailedException extends NoSuchElementException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object rejectedValue;
+
+    /**
+     * Constructs a new exception for the specified rejected value.
+     * @param rejectedValue the value that did not match the predicate, may be null
+     */
+    public PredicateFailedException(Object rejectedValue) {
+        this.rejectedValue = rejectedValue;
+    }
+
+    /**
+     * Returns the value that did not match the predicate.
+     * @return the rejected value, may be null
+     */
+    public Object getRejectedValue() {
+        return this.rejectedValue;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Predicate does not hold for " + this.rejectedValue;
+    }
+
+    /**
+     * Does not capture a stack trace.
+     * @return this exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,355 @@
+package com.lpedrosa.util;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A container object that represents either a successful value or an expected error,
+ * where the error is a plain value of type {@code E}, e.g. an enum constant, rather
+ * than a Throwable.
+ * <p>
+ * {@link Try} represents every failure as a Throwable, so an error that is part of the
+ * normal flow pays for constructing an exception and, unless it is stackless, for
+ * filling in its stack trace. A Result with an error is a single small object, like a
+ * Result with a value.
+ * <p>
+ * Result offers the same chaining methods as Try ({@link #map(Function)},
+ * {@link #flatMap(Function)}, {@link #recover(Function)}, {@link #orElse(Object)}),
+ * with one difference: since a thrown exception cannot become an error of type
+ * {@code E}, exceptions thrown by the provided functions are not captured and
+ * propagate to the caller.
+ * Example:
+ * <pre>
+ * {@code
+ * enum AccountError { NOT_FOUND, CLOSED }
+ *
+ * Result<Account, AccountError> account = findAccount(id);
+ * Balance balance = account.map(Account::balance)
+ *                          .orElse(Balance.ZERO);
+ * }
+ * </pre>
+ * <p>
+ * Conversions from and to Try are available through {@link #fromTry(Try)},
+ * {@link #fromTry(Try, Function)} and {@link #toTry(Function)}.
+ * <p>
+ * Instances of this class can be created by using one the following static methods:
+ * {@link #ok(Object)}, {@link #error(Object)}, {@link #fromTry(Try)}
+ *
+ * @param <T> the type of the value
+ * @param <E> the type of the error
+ * @author lpedrosa
+ * @see Try
+ */
+public final class Result<T, E> {
+
+        /**
+         * Holds the value if this is ok, or the error value if this is an error.
+         */
+        private final Object result;
+        private final boolean error;
+
+        /**
+         * Returns a Result instance, representing a success with the specified value
+         * @param <T> the type of the value
+         * @param <E> the type of the error
+         * @param value the successful value, may be null
+         * @return an ok instance with the specified value
+         */
+        public static <T, E> Result<T, E> ok(T value) {
+            return new Result<>(value, false);
+        }
+
+        /**
+         * Returns a Result instance, representing an error with the specified error value
+         * @param <T> the type of the value
+         * @param <E> the type of the error
+         * @param error the error value, which must be non-null
+         * @return an error instance with the specified error value
+         * @throws NullPointerException if error is null
+         */
+        public static <T, E> Result<T, E> error(E error) {
+            Objects.requireNonNull(error);
+
+            return new Result<>(error, true);
+        }
+
+        /**
+         * Returns a Result holding the value of the specified Try, if it represents a success,
+         * or its Throwable as the error value, if it represents a failure.
+         * @param <T> the type of the value
+         * @param source the Try to convert, which must be non-null
+         * @return a Result equivalent to the specified Try
+         * @throws NullPointerException if source is null
+         */
+        public static <T> Result<T, Throwable> fromTry(Try<T> source) {
+            Objects.requireNonNull(source);
+
+            return source.isFailure() ? new Result<>(source.cause(), true) : new Result<>(source.value(), false);
+        }
+
+        /**
+         * Returns a Result holding the value of the specified Try, if it represents a success,
+         * or the result of applying toError to its Throwable, if it represents a failure.
+         * @param <T> the type of the value
+         * @param <E> the type of the error
+         * @param source the Try to convert, which must be non-null
+         * @param toError a function turning the Throwable of a failure into an error value,
+         * whose result must be non-null
+         * @return a Result equivalent to the specified Try
+         * @throws NullPointerException if source or toError is null, or if toError returns null
+         */
+        public static <T, E> Result<T, E> fromTry(Try<T> source, Function<? super Throwable, ? extends E> toError) {
+            Objects.requireNonNull(source);
+            Objects.requireNonNull(toError);
+
+            return source.isFailure() ? error(toError.apply(source.cause())) : new Result<>(source.value(), false);
+        }
+
+        /**
+         * Applies the provided mapping function to the value of this Result, if it is ok.
+         * Otherwise return this instance if it is an error.
+         * @param <U> The type of the result of the mapping function
+         * @param mapper a mapping function to apply to the value, if ok
+         * @return a Result holding the result of applying a mapping function to the value of
+         * this Result, if it is ok, otherwise an error Result instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> Result<U, E> map(Function<? super T, ? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+
+            return this.error ? retype() : new Result<>(mapper.apply(value()), false);
+        }
+
+        /**
+         * Applies the provided Result-bearing mapping function to the value of this Result, if it is ok.
+         * Otherwise return this instance if it is an error.
+         * @param <U> The type of the value of the Result returned by the mapping function
+         * @param mapper a mapping function to apply to the value, if ok
+         * @return the result of applying a Result-bearing mapping function to the value of
+         * this Result, if it is ok, otherwise an error Result instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> Result<U, E> flatMap(Function<? super T, Result<U, E>> mapper) {
+            Objects.requireNonNull(mapper);
+
+            return this.error ? retype() : mapper.apply(value());
+        }
+
+        /**
+         * Applies the provided mapping function to the error value of this Result, if it is an error.
+         * Otherwise return this instance if it is ok.
+         * @param <F> The type of the result of the mapping function
+         * @param mapper a mapping function to apply to the error value, whose result must be non-null
+         * @return a Result holding the result of applying a mapping function to the error value of
+         * this Result, if it is an error, otherwise an ok Result instance
+         * @throws NullPointerException if the mapping function is null, or if it returns null
+         */
+        @SuppressWarnings("unchecked")
+        public <F> Result<T, F> mapError(Function<? super E, ? extends F> mapper) {
+            Objects.requireNonNull(mapper);
+
+            return this.error ? error(mapper.apply(errorValue())) : (Result<T, F>) this;
+        }
+
+        /**
+         * Applies the provided recover function to the error value of this Result, if it is an error.
+         * Otherwise return this instance if it is ok.
+         * @param recoverFunc a recover function to apply to the error value, if error
+         * @return a Result holding the result of applying a recover function to the error value of
+         * this Result, if it is an error, otherwise this ok Result instance
+         * @throws NullPointerException if the recover function is null
+         */
+        public Result<T, E> recover(Function<? super E, ? extends T> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            return this.error ? new Result<>(recoverFunc.apply(errorValue()), false) : this;
+        }
+
+        /**
+         * Applies the provided Result-bearing recover function to the error value of this Result, if it
+         * is an error. Otherwise return this instance if it is ok.
+         * @param recoverFunc a recover function to apply to the error value, if error
+         * @return the result of applying a Result-bearing recover function to the error value of
+         * this Result, if it is an error, otherwise this ok Result instance
+         * @throws NullPointerException if the recover function is null
+         */
+        public Result<T, E> recoverWith(Function<? super E, Result<T, E>> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            return this.error ? recoverFunc.apply(errorValue()) : this;
+        }
+
+        /**
+         * Applies onOk to the value of this Result, if it is ok, or onError to its error value,
+         * if it is an error, and return the result.
+         * @param <R> the type of the result of both functions
+         * @param onOk a function to apply to the value, if ok
+         * @param onError a function to apply to the error value, if error
+         * @return the result of the function that was applied
+         * @throws NullPointerException if either function is null
+         */
+        public <R> R fold(Function<? super T, ? extends R> onOk, Function<? super E, ? extends R> onError) {
+            Objects.requireNonNull(onOk);
+            Objects.requireNonNull(onError);
+
+            return this.error ? onError.apply(errorValue()) : onOk.apply(value());
+        }
+
+        /**
+         * Performs the given action on the value of this Result, if it is ok, otherwise does nothing.
+         * @param action an action to perform on the value, if ok
+         * @throws NullPointerException if the action is null
+         */
+        public void ifOk(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+
+            if (!this.error) {
+                action.accept(value());
+            }
+        }
+
+        /**
+         * Performs the given action on the error value of this Result, if it is an error, otherwise
+         * does nothing.
+         * @param action an action to perform on the error value, if error
+         * @throws NullPointerException if the action is null
+         */
+        public void ifError(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+
+            if (this.error) {
+                action.accept(errorValue());
+            }
+        }
+
+        /**
+         * Returns a Try holding the value of this Result, if it is ok, or a failure holding the
+         * result of applying toThrowable to its error value, if it is an error. The Throwable is
+         * only created if this is an error.
+         * @param toThrowable a function turning the error value into a Throwable, whose result
+         * must be non-null
+         * @return a Try equivalent to this Result
+         * @throws NullPointerException if toThrowable is null, or if it returns null
+         */
+        public Try<T> toTry(Function<? super E, ? extends Throwable> toThrowable) {
+            Objects.requireNonNull(toThrowable);
+
+            return this.error ? Try.failure(toThrowable.apply(errorValue())) : Try.ofValue(value());
+        }
+
+        /**
+         * Return the underlying value, if this is ok. Otherwise return other
+         * @param other the value to be returned if this is an error, may be null
+         * @return the value, if ok, otherwise other
+         */
+        public T orElse(T other) {
+            return this.error ? other : value();
+        }
+
+        /**
+         * Return the underlying value, if this is ok. Otherwise return the result of applying
+         * other to the error value.
+         * @param other a function whose result is returned if this is an error
+         * @return the value, if ok, otherwise the result of other applied to the error value
+         * @throws NullPointerException if other is null
+         */
+        public T orElseGet(Function<? super E, ? extends T> other) {
+            Objects.requireNonNull(other);
+
+            return this.error ? other.apply(errorValue()) : value();
+        }
+
+        /**
+         * Return the underlying value, if this is ok, or null if this is an error.
+         * @return the value, if ok, otherwise null
+         */
+        public T getOrNull() {
+            return this.error ? null : value();
+        }
+
+        /**
+         * Return the error value, if this is an error, or null if this is ok.
+         * @return the error value, if error, otherwise null
+         */
+        public E getError() {
+            return this.error ? errorValue() : null;
+        }
+
+        /**
+         * Return true if this represents an error, otherwise false
+         * @return true if this is an error, otherwise false
+         */
+        public boolean isError() {
+            return this.error;
+        }
+
+        /**
+         * Indicates whether some other object is "equal to" this Result. The other object is
+         * considered equal if:
+         * <ul>
+         * <li>it is also a Result and;
+         * <li>both instances are an error and their error values are "equal to" each other via {@code equals()} or;
+         * <li>both instances are ok and their values are "equal to" each other via {@code equals()}.
+         * </ul>
+         * @param obj an object to be tested for equality
+         * @return if the other object is "equal to" this object otherwise false
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof Result)) {
+                return false;
+            }
+
+            Result<?, ?> other = (Result<?, ?>) obj;
+            return this.error == other.error && Objects.equals(this.result, other.result);
+        }
+
+        /**
+         * Returns the hash code value of the underlying value, if this is ok, or the hash code value
+         * of the error value, if this is an error. An ok Result holding null has a hash code of 0 (zero).
+         * @return hash code value of the underlying value or error value
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.result);
+        }
+
+        /**
+         * Returns a non-empty string representation of this Result suitable for debugging.
+         * @return a string representation of this instance
+         */
+        @Override
+        public String toString() {
+            return this.error ? "Result.error(" + this.result + ")"
+                              : "Result.ok(" + this.result + ")";
+        }
+
+        private Result(Object result, boolean error) {
+            this.result = result;
+            this.error = error;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T value() {
+            return (T) this.result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private E errorValue() {
+            return (E) this.result;
+        }
+
+        /**
+         * Returns this error as a Result of another value type. An error holds no value,
+         * so the cast is safe.
+         */
+        @SuppressWarnings("unchecked")
+        private <U> Result<U, E> retype() {
+            return (Result<U, E>) this;
+        }
+}
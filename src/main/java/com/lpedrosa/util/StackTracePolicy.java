@@ -0,0 +1,224 @@
+package com.lpedrosa.util;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import com.lpedrosa.util.function.ThrowableSupplier;
+
+/**
+ * Decides how much of the stack trace of a captured failure is kept, for failures that
+ * are retained in large numbers.
+ * <p>
+ * Every Throwable caught by {@link Try}, {@link IntTry}, {@link LongTry} and {@link DoubleTry},
+ * e.g. by {@link Try#of(ThrowableSupplier)} or {@link Try#map(Function)}, and by the types
+ * built on them, such as {@link TryBatch}, {@link TryPipeline} or {@link LongTryBuffer}, goes
+ * through the default policy, see {@link #setDefault(StackTracePolicy)}, before it is stored in the
+ * failure. {@link Try#of(ThrowableSupplier, StackTracePolicy)} and
+ * {@link Try#recover(Function, StackTracePolicy)} use a given policy instead. Throwables
+ * passed to {@link Try#failure(Throwable)} are stored as they are.
+ * <p>
+ * The policies provided by this class modify the Throwable in place, along with its chain
+ * of causes, through {@link Throwable#setStackTrace(StackTraceElement[])}. On Java 8, or
+ * when {@code java.base} opens {@code java.lang} to this library, they also release the
+ * JVM's internal copy of the trace, which is otherwise retained until the Throwable is
+ * collected; a Throwable thrown 100 frames deep then drops from about 2.7 KB to a few
+ * dozen bytes. Without that access, dropping or truncating frames only bounds the memory
+ * used once the trace is read, e.g. when the failure is logged.
+ * <p>
+ * Since the Throwable is modified rather than copied, a policy other than {@link #full()}
+ * affects every holder of a caught exception, not only the failure: an exception that is
+ * cached, shared through a {@code CompletableFuture}, or already logged or queued elsewhere
+ * loses its stack trace too. Where such exceptions are rethrown inside a Try, keep the
+ * default policy full and pass a policy explicitly, to {@link Try#of(ThrowableSupplier,
+ * StackTracePolicy)}, only where the exceptions are created by the computation itself.
+ * Releasing the JVM's copy of the trace writes the private {@code Throwable.backtrace}
+ * field through reflection. This relies on an implementation detail of the JDK, which
+ * later versions may change, in which case the policies fall back to replacing the frames.
+ * <p>
+ * The policy is only consulted on the failure path, so it costs nothing when a
+ * computation succeeds.
+ *
+ * @author lpedrosa
+ */
+public abstract class StackTracePolicy {
+
+    private static final StackTraceElement[] NO_FRAMES = new StackTraceElement[0];
+
+    /** Bounds the walk through the chain of causes, which may contain a cycle. */
+    private static final int MAX_CAUSES = 32;
+
+    private static final Field BACKTRACE = backtraceField();
+
+    private static final StackTracePolicy FULL = new StackTracePolicy() {
+        @Override
+        public Throwable apply(Throwable failure) {
+            return failure;
+        }
+    };
+
+    private static final StackTracePolicy DROP = new FrameLimit(0);
+
+    private static volatile StackTracePolicy defaultPolicy = FULL;
+
+    /**
+     * Constructor for subclasses.
+     */
+    protected StackTracePolicy() {
+    }
+
+    /**
+     * Applies this policy to the specified failure, returning the Throwable to store in its
+     * place. Implementations must not throw, and usually return the same instance.
+     * @param failure the captured Throwable, which is non-null
+     * @return the Throwable to store in the failure, which must be non-null
+     */
+    public abstract Throwable apply(Throwable failure);
+
+    /**
+     * Returns a policy that keeps stack traces as they are. This is the initial default.
+     * @return the policy keeping full stack traces
+     */
+    public static StackTracePolicy full() {
+        return FULL;
+    }
+
+    /**
+     * Returns a policy that keeps at most the specified number of frames, counting from
+     * the top of the stack, i.e. the frame where the Throwable was created. Truncating
+     * needs the trace to be read first, which is about as costly as printing it.
+     * @param maxFrames the maximum number of frames to keep, which must not be negative
+     * @return a policy truncating stack traces to maxFrames
+     * @throws IllegalArgumentException if maxFrames is negative
+     */
+    public static StackTracePolicy truncate(int maxFrames) {
+        if (maxFrames < 0) {
+            throw new IllegalArgumentException("maxFrames must not be negative: " + maxFrames);
+        }
+        return maxFrames == 0 ? DROP : new FrameLimit(maxFrames);
+    }
+
+    /**
+     * Returns a policy that keeps the full stack trace of one in every oneIn failures, on
+     * average, and drops the stack trace of the others.
+     * @param oneIn the sampling interval, which must be positive
+     * @return a policy sampling stack traces
+     * @throws IllegalArgumentException if oneIn is not positive
+     */
+    public static StackTracePolicy sample(int oneIn) {
+        if (oneIn < 1) {
+            throw new IllegalArgumentException("oneIn must be positive: " + oneIn);
+        }
+        if (oneIn == 1) {
+            return FULL;
+        }
+        return new StackTracePolicy() {
+            @Override
+            public Throwable apply(Throwable failure) {
+                return ThreadLocalRandom.current().nextInt(oneIn) == 0 ? failure : DROP.apply(failure);
+            }
+        };
+    }
+
+    /**
+     * Returns a policy that drops stack traces entirely.
+     * @return the policy dropping stack traces
+     */
+    public static StackTracePolicy drop() {
+        return DROP;
+    }
+
+    /**
+     * Returns the policy applied to failures captured without an explicit policy.
+     * @return the default policy
+     */
+    public static StackTracePolicy getDefault() {
+        return defaultPolicy;
+    }
+
+    /**
+     * Sets the policy applied to failures captured without an explicit policy, from now on,
+     * by every thread.
+     * @param policy the new default policy, which must be non-null
+     * @throws NullPointerException if policy is null
+     */
+    public static void setDefault(StackTracePolicy policy) {
+        defaultPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * Replaces the stack trace of the specified Throwable with the specified frames and, where
+     * the JVM allows it, releases its internal copy of the original trace.
+     * @param failure the Throwable whose stack trace is replaced
+     * @param frames the new stack trace
+     * @throws NullPointerException if failure or frames, or any of the frames, is null
+     */
+    protected static void setStackTrace(Throwable failure, StackTraceElement[] frames) {
+        failure.setStackTrace(frames);
+        if (BACKTRACE != null) {
+            try {
+                // the trace is now held by the stack trace array, so the backtrace is no longer read
+                BACKTRACE.set(failure, null);
+            } catch (IllegalAccessException e) {
+                // keep the backtrace, only the frames are replaced
+            }
+        }
+    }
+
+    /**
+     * Applies the default policy to a Throwable caught by one of the Try types.
+     */
+    static Throwable capture(Throwable failure) {
+        return defaultPolicy.apply(failure);
+    }
+
+    /**
+     * Returns true if the policies can release the JVM's internal copy of a stack trace.
+     */
+    static boolean releasesBacktrace() {
+        return BACKTRACE != null;
+    }
+
+    private static Field backtraceField() {
+        try {
+            // Java 9 to 15 would log an illegal access warning; later versions deny the access
+            // unless java.lang is opened, and Java 8 always allows it
+            String version = System.getProperty("java.specification.version", "");
+            if (!version.startsWith("1.") && Integer.parseInt(version) < 16) {
+                return null;
+            }
+            Field field = Throwable.class.getDeclaredField("backtrace");
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException | RuntimeException e) {
+            // an unknown version or field layout, or java.lang is not open to us
+            return null;
+        }
+    }
+
+    private static final class FrameLimit extends StackTracePolicy {
+
+        private final int maxFrames;
+
+        FrameLimit(int maxFrames) {
+            this.maxFrames = maxFrames;
+        }
+
+        @Override
+        public Throwable apply(Throwable failure) {
+            Throwable current = failure;
+            for (int i = 0; current != null && i < MAX_CAUSES; i++) {
+                setStackTrace(current, this.maxFrames == 0 ? NO_FRAMES : limit(current.getStackTrace()));
+                Throwable cause = current.getCause();
+                current = cause == current ? null : cause;
+            }
+            return failure;
+        }
+
+        private StackTraceElement[] limit(StackTraceElement[] frames) {
+            return frames.length > this.maxFrames ? Arrays.copyOf(frames, this.maxFrames) : frames;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.lpedrosa.util;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A RuntimeException that does not capture a stack trace, used to represent failures
+ * that are expected often enough that the cost of {@code fillInStackTrace} matters.
+ * <p>
+ * The message may be supplied lazily, in which case it is only computed the first
+ * time {@link #getMessage()} is called, at most once, even when the exception is shared
+ * between threads.
+ * <p>
+ * Instances of this class are usually created through {@link Try#failureStackless(String)}
+ * or {@link Try#failureStackless(Supplier)}.
+ *
+ * @author lpedrosa
+ */
+public class StacklessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Supplier<String> messageSupplier;
+    private String message;
+
+    /**
+     * Constructs a new stackless exception with the specified message.
+     * @param message the detail message, may be null
+     */
+    public StacklessException(String message) {
+        super(null, null, true, false);
+        this.message = message;
+    }
+
+    /**
+     * Constructs a new stackless exception whose message is computed by the specified
+     * supplier, the first time it is requested.
+     * @param messageSupplier a supplier of the detail message, which must be non-null
+     * @throws NullPointerException if messageSupplier is null
+     */
+    public StacklessException(Supplier<String> messageSupplier) {
+        super(null, null, true, false);
+        this.messageSupplier = Objects.requireNonNull(messageSupplier);
+    }
+
+    /**
+     * Returns the detail message of this exception, computing it if it was supplied lazily.
+     * @return the detail message, may be null
+     */
+    @Override
+    public synchronized String getMessage() {
+        Supplier<String> supplier = this.messageSupplier;
+        if (supplier != null) {
+            this.message = supplier.get();
+            this.messageSupplier = null;
+        }
+        return this.message;
+    }
+}
@@ -0,0 +1,246 @@
+package com.lpedrosa.util;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.lpedrosa.util.function.ThrowableSupplier;
+
+/**
+ * A description of a computation that might fail, composed with {@link #flatMap(Function)},
+ * {@link #map(Function)}, {@link #recover(Function)} and {@link #recoverWith(Function)}, and
+ * only evaluated when {@link #run()} is called.
+ * <p>
+ * Unlike {@link Try#flatMap(Function)}, which calls the mapper on the current stack, the
+ * mapping functions of a TrampolinedTry are called by the loop inside {@link #run()}. Recursive
+ * algorithms written with flatMap, such as paginated fetches, therefore run in constant stack
+ * no matter how many steps they take:
+ * <pre>
+ * {@code
+ * TrampolinedTry<Page> fetchAll(Page page) {
+ *     if (page.isLast())
+ *         return TrampolinedTry.success(page);
+ *     return TrampolinedTry.of(() -> fetch(page.next()))
+ *                          .flatMap(this::fetchAll);
+ * }
+ * }
+ * </pre>
+ * While running, the intermediate results are kept in local variables, so no Try is created
+ * until the final result.
+ *
+ * @author lpedrosa
+ * @param <T> the type of the value of the computation
+ * @see Try
+ */
+public final class TrampolinedTry<T> {
+
+        private static final int SUCCESS = 0;
+        private static final int FAILURE = 1;
+        private static final int SUSPEND = 2;
+        private static final int MAP = 3;
+        private static final int FLAT_MAP = 4;
+        private static final int RECOVER = 5;
+        private static final int RECOVER_WITH = 6;
+
+        private final int kind;
+        private final Object payload;
+        private final TrampolinedTry<?> source;
+
+        /**
+         * Returns a TrampolinedTry that completes with the specified result.
+         * @param <T> the class of the value
+         * @param result the result of the computation, which must be non-null
+         * @return a TrampolinedTry completing with the specified result
+         * @throws NullPointerException if result is null
+         */
+        public static <T> TrampolinedTry<T> done(Try<T> result) {
+            Objects.requireNonNull(result);
+
+            return result.isFailure() ? new TrampolinedTry<>(FAILURE, result.cause(), null)
+                                      : new TrampolinedTry<>(SUCCESS, result.value(), null);
+        }
+
+        /**
+         * Returns a TrampolinedTry that completes successfully with the specified value.
+         * @param <T> the class of the value
+         * @param value the successful value, which must be non-null
+         * @return a TrampolinedTry completing with the specified value
+         * @throws NullPointerException if value is null
+         */
+        public static <T> TrampolinedTry<T> success(T value) {
+            Objects.requireNonNull(value);
+
+            return new TrampolinedTry<>(SUCCESS, value, null);
+        }
+
+        /**
+         * Returns a TrampolinedTry that completes with a failure holding the specified throwable.
+         * @param <T> Type of the value, if a failure did not occur
+         * @param t the throwable of the failure, which must be non-null
+         * @return a TrampolinedTry completing with the specified failure
+         * @throws NullPointerException if t is null
+         */
+        public static <T> TrampolinedTry<T> failure(Throwable t) {
+            Objects.requireNonNull(t);
+
+            return new TrampolinedTry<>(FAILURE, t, null);
+        }
+
+        /**
+         * Returns a TrampolinedTry that, when run, invokes the specified supplier and completes
+         * with its value, or with a failure if it has thrown an exception.
+         * @param <T> the class of the value
+         * @param supplier a supplier that might throw an exception, which must be non-null
+         * @return a TrampolinedTry describing the deferred computation
+         * @throws NullPointerException if supplier is null
+         */
+        public static <T> TrampolinedTry<T> of(ThrowableSupplier<T> supplier) {
+            Objects.requireNonNull(supplier);
+
+            return suspend(() -> done(Try.of(supplier)));
+        }
+
+        /**
+         * Returns a TrampolinedTry that, when run, continues with the TrampolinedTry returned by the
+         * specified supplier. This defers a recursive call until the trampoline reaches it.
+         * @param <T> the class of the value
+         * @param next a supplier of the computation to continue with, which must be non-null
+         * @return a TrampolinedTry describing the deferred computation
+         * @throws NullPointerException if next is null
+         */
+        public static <T> TrampolinedTry<T> suspend(Supplier<TrampolinedTry<T>> next) {
+            Objects.requireNonNull(next);
+
+            return new TrampolinedTry<>(SUSPEND, next, null);
+        }
+
+        /**
+         * Returns a TrampolinedTry that applies the provided mapping function to the value of this
+         * computation, if it succeeds. Exceptions thrown by the mapping function become failures.
+         * @param <U> The type of the result of the mapping function
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a TrampolinedTry describing the mapped computation
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> TrampolinedTry<U> map(Function<? super T, ? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+
+            return new TrampolinedTry<>(MAP, mapper, this);
+        }
+
+        /**
+         * Returns a TrampolinedTry that continues with the computation returned by the provided mapping
+         * function, if this computation succeeds. The mapping function is only called by {@link #run()},
+         * so it may recursively return further flatMapped computations without growing the stack.
+         * @param <U> The type parameter of the computation returned by the mapping function
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a TrampolinedTry describing the composed computation
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> TrampolinedTry<U> flatMap(Function<? super T, TrampolinedTry<U>> mapper) {
+            Objects.requireNonNull(mapper);
+
+            return new TrampolinedTry<>(FLAT_MAP, mapper, this);
+        }
+
+        /**
+         * Returns a TrampolinedTry that applies the provided recover function to the throwable of this
+         * computation, if it fails. Exceptions thrown by the recover function become failures.
+         * @param recoverFunc a recover function to apply to the throwable, if failure
+         * @return a TrampolinedTry describing the recovered computation
+         * @throws NullPointerException if the recover function is null
+         */
+        public TrampolinedTry<T> recover(Function<Throwable, T> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            return new TrampolinedTry<>(RECOVER, recoverFunc, this);
+        }
+
+        /**
+         * Returns a TrampolinedTry that continues with the computation returned by the provided recover
+         * function, if this computation fails.
+         * @param recoverFunc a recover function to apply to the throwable, if failure
+         * @return a TrampolinedTry describing the recovered computation
+         * @throws NullPointerException if the recover function is null
+         */
+        public TrampolinedTry<T> recoverWith(Function<Throwable, TrampolinedTry<T>> recoverFunc) {
+            Objects.requireNonNull(recoverFunc);
+
+            return new TrampolinedTry<>(RECOVER_WITH, recoverFunc, this);
+        }
+
+        /**
+         * Runs this computation in constant stack and returns its result. Each call runs the
+         * computation again; the result is not memoized.
+         * @return a Try describing the success or failure of this computation
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public Try<T> run() {
+            ArrayDeque<TrampolinedTry<?>> continuations = new ArrayDeque<>();
+            TrampolinedTry<?> current = this;
+            Object value = null;
+            Throwable error = null;
+
+            while (current != null) {
+                // descend to the innermost computation, remembering what to apply to its result
+                while (current != null) {
+                    if (current.kind == SUCCESS) {
+                        value = current.payload;
+                        error = null;
+                        current = null;
+                    } else if (current.kind == FAILURE) {
+                        value = null;
+                        error = (Throwable) current.payload;
+                        current = null;
+                    } else if (current.kind == SUSPEND) {
+                        try {
+                            current = next(((Supplier<TrampolinedTry<?>>) current.payload).get());
+                        } catch (Throwable t) {
+                            error = StackTracePolicy.capture(t);
+                            value = null;
+                            current = null;
+                        }
+                    } else {
+                        continuations.push(current);
+                        current = current.source;
+                    }
+                }
+
+                // unwind until a continuation produces a new computation to descend into
+                TrampolinedTry<?> frame;
+                while (current == null && (frame = continuations.poll()) != null) {
+                    try {
+                        if (error == null && frame.kind == MAP) {
+                            value = ((Function) frame.payload).apply(value);
+                        } else if (error == null && frame.kind == FLAT_MAP) {
+                            current = next((TrampolinedTry<?>) ((Function) frame.payload).apply(value));
+                        } else if (error != null && frame.kind == RECOVER) {
+                            value = ((Function) frame.payload).apply(error);
+                            error = null;
+                        } else if (error != null && frame.kind == RECOVER_WITH) {
+                            current = next((TrampolinedTry<?>) ((Function) frame.payload).apply(error));
+                        }
+                    } catch (Throwable t) {
+                        error = StackTracePolicy.capture(t);
+                        value = null;
+                    }
+                }
+            }
+
+            if (error != null) {
+                return Try.failure(error);
+            }
+            return Try.ofValue((T) value);
+        }
+
+        private static TrampolinedTry<?> next(TrampolinedTry<?> next) {
+            return Objects.requireNonNull(next, "Continuation returned null instead of a TrampolinedTry");
+        }
+
+        private TrampolinedTry(int kind, Object payload, TrampolinedTry<?> source) {
+            this.kind = kind;
+            this.payload = payload;
+            this.source = source;
+        }
+}
@@ -1,11 +1,29 @@
 package com.lpedrosa.util;
 
-import java.util.NoSuchElementException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
+import com.lpedrosa.util.function.ThrowableBiFunction;
+import com.lpedrosa.util.function.ThrowableConsumer;
+import com.lpedrosa.util.function.ThrowableFunction;
+import com.lpedrosa.util.function.ThrowableFunction3;
+import com.lpedrosa.util.function.ThrowableFunction4;
+import com.lpedrosa.util.function.ThrowableFunction5;
+import com.lpedrosa.util.function.ThrowableFunction6;
+import com.lpedrosa.util.function.ThrowableFunction7;
+import com.lpedrosa.util.function.ThrowableFunction8;
+import com.lpedrosa.util.function.ThrowablePredicate;
+import com.lpedrosa.util.function.ThrowableRunnable;
 import com.lpedrosa.util.function.ThrowableSupplier;
 
 /**
@@ -34,18 +52,44 @@ import com.lpedrosa.util.function.ThrowableSupplier;
  * or {@link #recoverWith(Function)}.
  * <p>
  * Instances of this class can be created by using one the following static methods:
- * {@link #of(ThrowableSupplier)}, {@link #success(Object)}, {@link #failure(Throwable)}
+ * {@link #of(ThrowableSupplier)}, {@link #run(ThrowableRunnable)}, {@link #success(Object)},
+ * {@link #failure(Throwable)}, {@link #failureStackless(String)}
  *
  * @author lpedrosa
  */
 public final class Try<T> {
 
-        private final T value;
-        private final Optional<Throwable> error;
+        /**
+         * Holds the value if this is a success, or the Throwable if this is a failure.
+         * A single slot keeps every instance, success or failure, one small object.
+         */
+        private final Object result;
+        private final boolean failure;
+
+        private static final Try<Void> UNIT = new Try<>(null, false);
+        private static final Try<Boolean> TRUE = new Try<>(Boolean.TRUE, false);
+        private static final Try<Boolean> FALSE = new Try<>(Boolean.FALSE, false);
+        private static final Try<String> EMPTY_STRING = new Try<>("", false);
+
+        private static final int SMALL_INTEGER_LOW = -128;
+        private static final int SMALL_INTEGER_HIGH = 127;
+        private static final Try<?>[] SMALL_INTEGERS = new Try<?>[SMALL_INTEGER_HIGH - SMALL_INTEGER_LOW + 1];
+
+        static {
+            for (int i = 0; i < SMALL_INTEGERS.length; i++) {
+                SMALL_INTEGERS[i] = new Try<>(Integer.valueOf(i + SMALL_INTEGER_LOW), false);
+            }
+        }
 
         /**
          * Returns a Try instance holding the value of the specified computation, if successful.
          * The Try might result in a failure if the supplier has thrown an exception.
+         * <p>
+         * The exception goes through the default {@link StackTracePolicy}. Unless that policy is
+         * {@link StackTracePolicy#full()}, it may rewrite the stack traces of the exception and of
+         * its causes in place, so an exception the supplier rethrows from elsewhere, e.g. a cached
+         * exception, or one already logged or completing a {@code CompletableFuture}, loses its
+         * stack trace for every other holder too.
          * @param <T> the class of the value
          * @param supplier a Supplier that might throw an exception, which must be non-null
          * @return a Try representing the success or failure of the provided computation
@@ -54,29 +98,80 @@ public final class Try<T> {
         public static <T> Try<T> of(ThrowableSupplier<T> supplier) {
             Objects.requireNonNull(supplier);
 
-            T computationValue = null;
-            Optional<Throwable> errorCase = Optional.empty();
+            T computed;
+            try {
+                computed = supplier.get();
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return ofValue(computed);
+        }
+
+        /**
+         * Returns a Try instance holding the value of the specified computation, if successful.
+         * The Try might result in a failure if the supplier has thrown an exception, in which case
+         * the specified policy, rather than the default one, is applied to the exception. As with
+         * {@link #of(ThrowableSupplier)}, the policy may rewrite the stack traces of the exception,
+         * and of its causes, in place.
+         * @param <T> the class of the value
+         * @param supplier a Supplier that might throw an exception, which must be non-null
+         * @param policy the stack trace policy applied to a thrown exception, which must be non-null
+         * @return a Try representing the success or failure of the provided computation
+         * @throws NullPointerException if supplier or policy is null
+         * @see StackTracePolicy
+         */
+        public static <T> Try<T> of(ThrowableSupplier<T> supplier, StackTracePolicy policy) {
+            Objects.requireNonNull(supplier);
+            Objects.requireNonNull(policy);
 
+            T computed;
             try {
-                computationValue = supplier.get();
+                computed = supplier.get();
             } catch (Throwable t) {
-                errorCase = Optional.of(t);
+                return failed(policy.apply(t));
             }
+            return ofValue(computed);
+        }
+
+        /**
+         * Returns the result of running the specified side-effecting operation: a success holding
+         * no value, if it completes, or a failure holding the exception it has thrown.
+         * <p>
+         * Every successful run returns the same shared instance, so side-effecting calls do not
+         * allocate on success.
+         * @param runnable an operation that might throw an exception, which must be non-null
+         * @return a shared success instance, or a failure describing the thrown exception
+         * @throws NullPointerException if runnable is null
+         */
+        public static Try<Void> run(ThrowableRunnable runnable) {
+            Objects.requireNonNull(runnable);
 
-            return new Try<>(computationValue, errorCase);
+            try {
+                runnable.run();
+                return UNIT;
+            } catch (Throwable t) {
+                return caught(t);
+            }
         }
 
         /**
          * Returns a Try instance, representing a success with the specified value
+         * <p>
+         * Much like {@link Integer#valueOf(int)}, frequently used values are served from shared
+         * instances: {@code Boolean.TRUE}, {@code Boolean.FALSE}, integers between -128 and 127
+         * and the empty string. For those, the value held by the returned Try is the canonical
+         * instance, e.g. the one returned by {@code Integer.valueOf}.
          * @param <T> the class of the value
          * @param value the successful value, which must be non-null
          * @return a success instance with the specified value
          * @throws NullPointerException if value is null
          */
+        @SuppressWarnings("unchecked")
         public static <T> Try<T> success(T value) {
             Objects.requireNonNull(value);
 
-            return new Try<>(value, Optional.empty());
+            Try<?> shared = shared(value);
+            return shared != null ? (Try<T>) shared : ofValue(value);
         }
 
         /**
@@ -89,7 +184,458 @@ public final class Try<T> {
         public static <T> Try<T> failure(Throwable t) {
             Objects.requireNonNull(t);
 
-            return new Try<>(null, Optional.of(t));
+            return new Try<>(t, true);
+        }
+
+        /**
+         * Returns a Try instance, representing a failure with a {@link StacklessException}
+         * carrying the specified message. Unlike {@link #failure(Throwable)}, no stack trace
+         * is captured, which makes this suitable for expected, high-rate failures.
+         * @param <T> Type of the value, if a failure did not occur
+         * @param message the message of the exception, may be null
+         * @return a failure instance with a stackless exception
+         */
+        public static <T> Try<T> failureStackless(String message) {
+            return new Try<>(new StacklessException(message), true);
+        }
+
+        /**
+         * Returns a Try instance, representing a failure with a {@link StacklessException}
+         * whose message is only computed when it is requested. No stack trace is captured.
+         * @param <T> Type of the value, if a failure did not occur
+         * @param messageSupplier a supplier of the exception message, which must be non-null
+         * @return a failure instance with a stackless exception
+         * @throws NullPointerException if messageSupplier is null
+         */
+        public static <T> Try<T> failureStackless(Supplier<String> messageSupplier) {
+            return new Try<>(new StacklessException(messageSupplier), true);
+        }
+
+        /**
+         * Returns a Try holding the result of applying the zipper function to the values of the
+         * specified Tries, if all of them are successes. Otherwise return the first failure, in
+         * argument order, without applying the zipper function.
+         * @param <A> the type of the value of a
+         * @param <B> the type of the value of b
+         * @param <R> the type of the result of the zipper function
+         * @param a the first Try, which must be non-null
+         * @param b the second Try, which must be non-null
+         * @param zipper a function combining the values, which must be non-null
+         * @return a Try describing the result of the zipper function, if all Tries are successes,
+         * otherwise the first failure
+         * @throws NullPointerException if any of the Tries or the zipper function is null
+         */
+        public static <A, B, R> Try<R> zip(Try<? extends A> a, Try<? extends B> b,
+                                           ThrowableBiFunction<? super A, ? super B, ? extends R> zipper) {
+            Objects.requireNonNull(a);
+            Objects.requireNonNull(b);
+            Objects.requireNonNull(zipper);
+
+            if (a.failure) {
+                return a.retype();
+            }
+            if (b.failure) {
+                return b.retype();
+            }
+
+            R zipped;
+            try {
+                zipped = zipper.apply(a.value(), b.value());
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return ofValue(zipped);
+        }
+
+        /**
+         * Returns a Try holding the result of applying the zipper function to the values of the
+         * specified Tries, if all of them are successes. Otherwise return the first failure, in
+         * argument order, without applying the zipper function.
+         * @param <A> the type of the value of a
+         * @param <B> the type of the value of b
+         * @param <C> the type of the value of c
+         * @param <R> the type of the result of the zipper function
+         * @param a the first Try, which must be non-null
+         * @param b the second Try, which must be non-null
+         * @param c the third Try, which must be non-null
+         * @param zipper a function combining the values, which must be non-null
+         * @return a Try describing the result of the zipper function, if all Tries are successes,
+         * otherwise the first failure
+         * @throws NullPointerException if any of the Tries or the zipper function is null
+         */
+        public static <A, B, C, R> Try<R> zip(Try<? extends A> a, Try<? extends B> b, Try<? extends C> c,
+                                              ThrowableFunction3<? super A, ? super B, ? super C, ? extends R> zipper) {
+            Objects.requireNonNull(a);
+            Objects.requireNonNull(b);
+            Objects.requireNonNull(c);
+            Objects.requireNonNull(zipper);
+
+            if (a.failure) {
+                return a.retype();
+            }
+            if (b.failure) {
+                return b.retype();
+            }
+            if (c.failure) {
+                return c.retype();
+            }
+
+            R zipped;
+            try {
+                zipped = zipper.apply(a.value(), b.value(), c.value());
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return ofValue(zipped);
+        }
+
+        /**
+         * Returns a Try holding the result of applying the zipper function to the values of the
+         * specified Tries, if all of them are successes. Otherwise return the first failure, in
+         * argument order, without applying the zipper function.
+         * @param <A> the type of the value of a
+         * @param <B> the type of the value of b
+         * @param <C> the type of the value of c
+         * @param <D> the type of the value of d
+         * @param <R> the type of the result of the zipper function
+         * @param a the first Try, which must be non-null
+         * @param b the second Try, which must be non-null
+         * @param c the third Try, which must be non-null
+         * @param d the fourth Try, which must be non-null
+         * @param zipper a function combining the values, which must be non-null
+         * @return a Try describing the result of the zipper function, if all Tries are successes,
+         * otherwise the first failure
+         * @throws NullPointerException if any of the Tries or the zipper function is null
+         */
+        public static <A, B, C, D, R> Try<R> zip(Try<? extends A> a, Try<? extends B> b, Try<? extends C> c,
+                                                 Try<? extends D> d,
+                                                 ThrowableFunction4<? super A, ? super B, ? super C, ? super D,
+                                                                    ? extends R> zipper) {
+            Objects.requireNonNull(a);
+            Objects.requireNonNull(b);
+            Objects.requireNonNull(c);
+            Objects.requireNonNull(d);
+            Objects.requireNonNull(zipper);
+
+            if (a.failure) {
+                return a.retype();
+            }
+            if (b.failure) {
+                return b.retype();
+            }
+            if (c.failure) {
+                return c.retype();
+            }
+            if (d.failure) {
+                return d.retype();
+            }
+
+            R zipped;
+            try {
+                zipped = zipper.apply(a.value(), b.value(), c.value(), d.value());
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return ofValue(zipped);
+        }
+
+        /**
+         * Returns a Try holding the result of applying the zipper function to the values of the
+         * specified Tries, if all of them are successes. Otherwise return the first failure, in
+         * argument order, without applying the zipper function.
+         * @param <A> the type of the value of a
+         * @param <B> the type of the value of b
+         * @param <C> the type of the value of c
+         * @param <D> the type of the value of d
+         * @param <E> the type of the value of e
+         * @param <R> the type of the result of the zipper function
+         * @param a the first Try, which must be non-null
+         * @param b the second Try, which must be non-null
+         * @param c the third Try, which must be non-null
+         * @param d the fourth Try, which must be non-null
+         * @param e the fifth Try, which must be non-null
+         * @param zipper a function combining the values, which must be non-null
+         * @return a Try describing the result of the zipper function, if all Tries are successes,
+         * otherwise the first failure
+         * @throws NullPointerException if any of the Tries or the zipper function is null
+         */
+        public static <A, B, C, D, E, R> Try<R> zip(Try<? extends A> a, Try<? extends B> b, Try<? extends C> c,
+                                                    Try<? extends D> d, Try<? extends E> e,
+                                                    ThrowableFunction5<? super A, ? super B, ? super C, ? super D,
+                                                                       ? super E, ? extends R> zipper) {
+            Objects.requireNonNull(a);
+            Objects.requireNonNull(b);
+            Objects.requireNonNull(c);
+            Objects.requireNonNull(d);
+            Objects.requireNonNull(e);
+            Objects.requireNonNull(zipper);
+
+            if (a.failure) {
+                return a.retype();
+            }
+            if (b.failure) {
+                return b.retype();
+            }
+            if (c.failure) {
+                return c.retype();
+            }
+            if (d.failure) {
+                return d.retype();
+            }
+            if (e.failure) {
+                return e.retype();
+            }
+
+            R zipped;
+            try {
+                zipped = zipper.apply(a.value(), b.value(), c.value(), d.value(), e.value());
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return ofValue(zipped);
+        }
+
+        /**
+         * Returns a Try holding the result of applying the zipper function to the values of the
+         * specified Tries, if all of them are successes. Otherwise return the first failure, in
+         * argument order, without applying the zipper function.
+         * @param <A> the type of the value of a
+         * @param <B> the type of the value of b
+         * @param <C> the type of the value of c
+         * @param <D> the type of the value of d
+         * @param <E> the type of the value of e
+         * @param <F> the type of the value of f
+         * @param <R> the type of the result of the zipper function
+         * @param a the first Try, which must be non-null
+         * @param b the second Try, which must be non-null
+         * @param c the third Try, which must be non-null
+         * @param d the fourth Try, which must be non-null
+         * @param e the fifth Try, which must be non-null
+         * @param f the sixth Try, which must be non-null
+         * @param zipper a function combining the values, which must be non-null
+         * @return a Try describing the result of the zipper function, if all Tries are successes,
+         * otherwise the first failure
+         * @throws NullPointerException if any of the Tries or the zipper function is null
+         */
+        public static <A, B, C, D, E, F, R> Try<R> zip(Try<? extends A> a, Try<? extends B> b, Try<? extends C> c,
+                                                       Try<? extends D> d, Try<? extends E> e, Try<? extends F> f,
+                                                       ThrowableFunction6<? super A, ? super B, ? super C, ? super D,
+                                                                          ? super E, ? super F, ? extends R> zipper) {
+            Objects.requireNonNull(a);
+            Objects.requireNonNull(b);
+            Objects.requireNonNull(c);
+            Objects.requireNonNull(d);
+            Objects.requireNonNull(e);
+            Objects.requireNonNull(f);
+            Objects.requireNonNull(zipper);
+
+            if (a.failure) {
+                return a.retype();
+            }
+            if (b.failure) {
+                return b.retype();
+            }
+            if (c.failure) {
+                return c.retype();
+            }
+            if (d.failure) {
+                return d.retype();
+            }
+            if (e.failure) {
+                return e.retype();
+            }
+            if (f.failure) {
+                return f.retype();
+            }
+
+            R zipped;
+            try {
+                zipped = zipper.apply(a.value(), b.value(), c.value(), d.value(), e.value(), f.value());
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return ofValue(zipped);
+        }
+
+        /**
+         * Returns a Try holding the result of applying the zipper function to the values of the
+         * specified Tries, if all of them are successes. Otherwise return the first failure, in
+         * argument order, without applying the zipper function.
+         * @param <A> the type of the value of a
+         * @param <B> the type of the value of b
+         * @param <C> the type of the value of c
+         * @param <D> the type of the value of d
+         * @param <E> the type of the value of e
+         * @param <F> the type of the value of f
+         * @param <G> the type of the value of g
+         * @param <R> the type of the result of the zipper function
+         * @param a the first Try, which must be non-null
+         * @param b the second Try, which must be non-null
+         * @param c the third Try, which must be non-null
+         * @param d the fourth Try, which must be non-null
+         * @param e the fifth Try, which must be non-null
+         * @param f the sixth Try, which must be non-null
+         * @param g the seventh Try, which must be non-null
+         * @param zipper a function combining the values, which must be non-null
+         * @return a Try describing the result of the zipper function, if all Tries are successes,
+         * otherwise the first failure
+         * @throws NullPointerException if any of the Tries or the zipper function is null
+         */
+        public static <A, B, C, D, E, F, G, R> Try<R> zip(Try<? extends A> a, Try<? extends B> b, Try<? extends C> c,
+                                                          Try<? extends D> d, Try<? extends E> e, Try<? extends F> f,
+                                                          Try<? extends G> g,
+                                                          ThrowableFunction7<? super A, ? super B, ? super C, ? super D,
+                                                                             ? super E, ? super F, ? super G, ? extends R> zipper) {
+            Objects.requireNonNull(a);
+            Objects.requireNonNull(b);
+            Objects.requireNonNull(c);
+            Objects.requireNonNull(d);
+            Objects.requireNonNull(e);
+            Objects.requireNonNull(f);
+            Objects.requireNonNull(g);
+            Objects.requireNonNull(zipper);
+
+            if (a.failure) {
+                return a.retype();
+            }
+            if (b.failure) {
+                return b.retype();
+            }
+            if (c.failure) {
+                return c.retype();
+            }
+            if (d.failure) {
+                return d.retype();
+            }
+            if (e.failure) {
+                return e.retype();
+            }
+            if (f.failure) {
+                return f.retype();
+            }
+            if (g.failure) {
+                return g.retype();
+            }
+
+            R zipped;
+            try {
+                zipped = zipper.apply(a.value(), b.value(), c.value(), d.value(), e.value(), f.value(), g.value());
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return ofValue(zipped);
+        }
+
+        /**
+         * Returns a Try holding the result of applying the zipper function to the values of the
+         * specified Tries, if all of them are successes. Otherwise return the first failure, in
+         * argument order, without applying the zipper function.
+         * @param <A> the type of the value of a
+         * @param <B> the type of the value of b
+         * @param <C> the type of the value of c
+         * @param <D> the type of the value of d
+         * @param <E> the type of the value of e
+         * @param <F> the type of the value of f
+         * @param <G> the type of the value of g
+         * @param <H> the type of the value of h
+         * @param <R> the type of the result of the zipper function
+         * @param a the first Try, which must be non-null
+         * @param b the second Try, which must be non-null
+         * @param c the third Try, which must be non-null
+         * @param d the fourth Try, which must be non-null
+         * @param e the fifth Try, which must be non-null
+         * @param f the sixth Try, which must be non-null
+         * @param g the seventh Try, which must be non-null
+         * @param h the eighth Try, which must be non-null
+         * @param zipper a function combining the values, which must be non-null
+         * @return a Try describing the result of the zipper function, if all Tries are successes,
+         * otherwise the first failure
+         * @throws NullPointerException if any of the Tries or the zipper function is null
+         */
+        public static <A, B, C, D, E, F, G, H, R> Try<R> zip(Try<? extends A> a, Try<? extends B> b, Try<? extends C> c,
+                                                             Try<? extends D> d, Try<? extends E> e, Try<? extends F> f,
+                                                             Try<? extends G> g, Try<? extends H> h,
+                                                             ThrowableFunction8<? super A, ? super B, ? super C, ? super D,
+                                                                                ? super E, ? super F, ? super G, ? super H,
+                                                                                ? extends R> zipper) {
+            Objects.requireNonNull(a);
+            Objects.requireNonNull(b);
+            Objects.requireNonNull(c);
+            Objects.requireNonNull(d);
+            Objects.requireNonNull(e);
+            Objects.requireNonNull(f);
+            Objects.requireNonNull(g);
+            Objects.requireNonNull(h);
+            Objects.requireNonNull(zipper);
+
+            if (a.failure) {
+                return a.retype();
+            }
+            if (b.failure) {
+                return b.retype();
+            }
+            if (c.failure) {
+                return c.retype();
+            }
+            if (d.failure) {
+                return d.retype();
+            }
+            if (e.failure) {
+                return e.retype();
+            }
+            if (f.failure) {
+                return f.retype();
+            }
+            if (g.failure) {
+                return g.retype();
+            }
+            if (h.failure) {
+                return h.retype();
+            }
+
+            R zipped;
+            try {
+                zipped = zipper.apply(a.value(), b.value(), c.value(), d.value(), e.value(), f.value(), g.value(), h.value());
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return ofValue(zipped);
+        }
+
+        /**
+         * Returns a Try holding a list of the values of the specified Tries, in iteration order, if
+         * all of them are successes. Otherwise return the first failure, in iteration order.
+         * <p>
+         * If the specified Tries are a Collection, they are checked for failures before the list is
+         * allocated, so a failure does not allocate.
+         * @param <T> the type of the values
+         * @param tries the Tries to combine, which must be non-null and must not contain null
+         * @return a Try holding a new, mutable list of the values, if all Tries are successes,
+         * otherwise the first failure
+         * @throws NullPointerException if tries is null, or contains null
+         */
+        public static <T> Try<List<T>> combine(Iterable<? extends Try<? extends T>> tries) {
+            Objects.requireNonNull(tries);
+
+            List<T> values;
+            if (tries instanceof Collection) {
+                for (Try<? extends T> element : tries) {
+                    if (element.failure) {
+                        return element.retype();
+                    }
+                }
+                values = new ArrayList<>(((Collection<?>) tries).size());
+            } else {
+                values = new ArrayList<>();
+            }
+
+            for (Try<? extends T> element : tries) {
+                if (element.failure) {
+                    return element.retype();
+                }
+                values.add(element.value());
+            }
+            return ofValue(values);
         }
 
         /**
@@ -104,8 +650,101 @@ public final class Try<T> {
         public <U> Try<U> map(Function<? super T, ? extends U> mapper) {
             Objects.requireNonNull(mapper);
 
-            return this.error.map(Try::<U>failure)
-                             .orElse(Try.of(lazyApply(this.value, mapper)));
+            if (this.failure) {
+                return retype();
+            }
+
+            return apply(mapper, value());
+        }
+
+        /**
+         * Applies the provided throwing mapping function to the value of this Try, if it represents a success.
+         * Otherwise return this instance if it is a failure. This method is similar to {@link #map(Function)},
+         * but the mapping function may throw checked exceptions, which become failures, so it does not
+         * need to be wrapped in an additional {@link #of(ThrowableSupplier)}.
+         * @param <U> The type of the result of the mapping function
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a Try describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure Try instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> Try<U> mapTry(ThrowableFunction<? super T, ? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.failure) {
+                return retype();
+            }
+
+            return applyTry(mapper, value());
+        }
+
+        /**
+         * Applies the provided int-valued mapping function to the value of this Try, if it represents
+         * a success, bridging to an IntTry so the result is never boxed. Otherwise return an IntTry
+         * representing the same failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return an IntTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure IntTry instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public IntTry mapToInt(ToIntFunction<? super T> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.failure) {
+                return IntTry.failure(cause());
+            }
+
+            try {
+                return IntTry.success(mapper.applyAsInt(value()));
+            } catch (Throwable t) {
+                return IntTry.failure(StackTracePolicy.capture(t));
+            }
+        }
+
+        /**
+         * Applies the provided long-valued mapping function to the value of this Try, if it represents
+         * a success, bridging to a LongTry so the result is never boxed. Otherwise return a LongTry
+         * representing the same failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a LongTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure LongTry instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public LongTry mapToLong(ToLongFunction<? super T> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.failure) {
+                return LongTry.failure(cause());
+            }
+
+            try {
+                return LongTry.success(mapper.applyAsLong(value()));
+            } catch (Throwable t) {
+                return LongTry.failure(StackTracePolicy.capture(t));
+            }
+        }
+
+        /**
+         * Applies the provided double-valued mapping function to the value of this Try, if it represents
+         * a success, bridging to a DoubleTry so the result is never boxed. Otherwise return a DoubleTry
+         * representing the same failure.
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a DoubleTry describing the result of applying a mapping function to the value of
+         * this try, if it represents a success, otherwise a failure DoubleTry instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public DoubleTry mapToDouble(ToDoubleFunction<? super T> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.failure) {
+                return DoubleTry.failure(cause());
+            }
+
+            try {
+                return DoubleTry.success(mapper.applyAsDouble(value()));
+            } catch (Throwable t) {
+                return DoubleTry.failure(StackTracePolicy.capture(t));
+            }
         }
 
         /**
@@ -122,25 +761,103 @@ public final class Try<T> {
         public <U> Try<U> flatMap(Function<? super T, Try<U>> mapper) {
             Objects.requireNonNull(mapper);
 
-            return this.error.map(Try::<U>failure)
-                             .orElse(mapper.apply(this.value));
+            if (this.failure) {
+                return retype();
+            }
+
+            return mapper.apply(value());
+        }
+
+        /**
+         * Applies the provided throwing, Try-bearing mapping function to the value of this Try, if it
+         * represents a success. Otherwise return this instance if it is a failure. This method is similar
+         * to {@link #flatMap(Function)}, but exceptions thrown by the mapping function become failures.
+         * @param <U> The type parameter to the Try returned by the mapping function
+         * @param mapper a mapping function to apply to the value, if success
+         * @return a Try describing the result of applying a Try-bearing mapping function to the value of this
+         * try, if it is represents a success, otherwise a failure Try instance
+         * @throws NullPointerException if the mapping function is null
+         */
+        public <U> Try<U> flatMapTry(ThrowableFunction<? super T, Try<U>> mapper) {
+            Objects.requireNonNull(mapper);
+
+            if (this.failure) {
+                return retype();
+            }
+
+            try {
+                return mapper.apply(value());
+            } catch (Throwable t) {
+                return caught(t);
+            }
         }
 
         /**
          * If this Try represents a success, and the value matches the given predicate, return a Try
-         * describing the value, otherwise return a Try, representing a failure, wrapping a NoSuchElementException.
+         * describing the value, otherwise return a Try, representing a failure, wrapping a
+         * {@link PredicateFailedException}. That exception is a NoSuchElementException that does
+         * not capture a stack trace and only builds its message when requested.
          * @param predicate a predicate to apply to the value, if success
          * @return a Try describing the value of this Try if success and the value matches the given predicate,
-         * otherwise a Try describing a failure, wrapping a NoSuchElementException
+         * otherwise a Try describing a failure, wrapping a PredicateFailedException
          * @throws NullPointerException if the predicate is null
          */
         public Try<T> filter(Predicate<? super T> predicate) {
             Objects.requireNonNull(predicate);
 
-            if (error.isPresent() || predicate.test(this.value))
+            if (this.failure || predicate.test(value()))
+                return this;
+
+            return rejected();
+        }
+
+        /**
+         * If this Try represents a success, and the value matches the given throwing predicate, return this
+         * instance. Otherwise return a Try representing a failure, wrapping either a
+         * {@link PredicateFailedException}, if the predicate does not hold, or the exception thrown by the predicate.
+         * @param predicate a predicate to apply to the value, if success
+         * @return this instance if success and the value matches the given predicate,
+         * otherwise a Try describing a failure
+         * @throws NullPointerException if the predicate is null
+         */
+        public Try<T> filterTry(ThrowablePredicate<? super T> predicate) {
+            Objects.requireNonNull(predicate);
+
+            if (this.failure) {
+                return this;
+            }
+
+            try {
+                if (predicate.test(value())) {
+                    return this;
+                }
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return rejected();
+        }
+
+        /**
+         * Performs the provided action on the value of this Try, if it represents a success, and return this
+         * instance. If the action throws an exception, return a Try representing a failure, wrapping it.
+         * Otherwise return this instance if it is a failure, without performing the action.
+         * @param action an action to perform on the value, if success
+         * @return this instance, or a failure wrapping the exception thrown by the action
+         * @throws NullPointerException if the action is null
+         */
+        public Try<T> peek(ThrowableConsumer<? super T> action) {
+            Objects.requireNonNull(action);
+
+            if (this.failure) {
                 return this;
+            }
 
-            return Try.failure(new NoSuchElementException("Predicate does not hold for " + this.value));
+            try {
+                action.accept(value());
+                return this;
+            } catch (Throwable t) {
+                return caught(t);
+            }
         }
 
         /**
@@ -154,9 +871,40 @@ public final class Try<T> {
         public Try<T> recover(Function<Throwable, T> recoverFunc) {
             Objects.requireNonNull(recoverFunc);
 
-            Optional<Try<T>> recoverFunctionIfError = this.error.map(throwable -> lazyApply(throwable, recoverFunc))
-                                                                .map(Try::of);
-            return recoverFunctionIfError.orElse(this);
+            if (!this.failure) {
+                return this;
+            }
+
+            return apply(recoverFunc, cause());
+        }
+
+        /**
+         * Applies the provided recover function to the throwable of this try, if it is a failure.
+         * Otherwise return this instance if this is a success. This method is similar to
+         * {@link #recover(Function)}, but the specified policy, rather than the default one, is
+         * applied to an exception thrown by the recover function.
+         * @param recoverFunc a recover function to apply the throwable, if failure
+         * @param policy the stack trace policy applied to a thrown exception, which must be non-null
+         * @return a Try describing the result of applying a recover function to the throwable of
+         * this try, if it represents a failure, otherwise a success Try instance
+         * @throws NullPointerException if the recover function or policy is null
+         * @see StackTracePolicy
+         */
+        public Try<T> recover(Function<Throwable, T> recoverFunc, StackTracePolicy policy) {
+            Objects.requireNonNull(recoverFunc);
+            Objects.requireNonNull(policy);
+
+            if (!this.failure) {
+                return this;
+            }
+
+            T recovered;
+            try {
+                recovered = recoverFunc.apply(cause());
+            } catch (Throwable t) {
+                return failed(policy.apply(t));
+            }
+            return ofValue(recovered);
         }
 
         /**
@@ -172,21 +920,167 @@ public final class Try<T> {
         public Try<T> recoverWith(Function<Throwable, Try<T>> recoverFunc) {
             Objects.requireNonNull(recoverFunc);
 
-            Optional<Try<T>> recoverFunctionIfError = this.error.map(throwable -> recoverFunc.apply(throwable));
-            return recoverFunctionIfError.orElse(this);
+            if (!this.failure) {
+                return this;
+            }
+
+            return recoverFunc.apply(cause());
+        }
+
+        /**
+         * Applies the handler the provided matcher holds for the throwable of this try, if it is a
+         * failure the matcher has a handler for. Otherwise return this instance. This method is
+         * similar to {@link #recover(Function)}, but the recover function is selected by exception
+         * type with a single lookup, rather than by a chain of {@code instanceof} checks.
+         * @param matcher a matcher holding the recover function of each exception type
+         * @return a Try describing the result of applying the matching handler to the throwable of
+         * this try, if there is one, otherwise this Try instance
+         * @throws NullPointerException if the matcher is null
+         * @see FailureMatcher
+         */
+        public Try<T> recoverMatching(FailureMatcher<? extends T> matcher) {
+            Objects.requireNonNull(matcher);
+
+            Throwable matched = this.failure ? matcher.find(cause()) : null;
+            return matched == null ? this : apply(matcher.handlerFor(matched), matched);
+        }
+
+        /**
+         * Replaces the throwable of this try with the one returned by the translator the provided
+         * matcher holds for it, if this is a failure the matcher has a translator for. Otherwise
+         * return this instance. A translator that throws, or returns null, results in a failure
+         * holding the exception it has thrown, or a NullPointerException.
+         * @param matcher a matcher holding the translator of each exception type
+         * @return a failure Try holding the translated throwable, if there is a matching translator,
+         * otherwise this Try instance
+         * @throws NullPointerException if the matcher is null
+         * @see FailureMatcher
+         */
+        public Try<T> mapFailure(FailureMatcher<? extends Throwable> matcher) {
+            Objects.requireNonNull(matcher);
+
+            Throwable matched = this.failure ? matcher.find(cause()) : null;
+            return matched == null ? this : translate(matcher.handlerFor(matched), matched);
         }
 
         /**
          * If this Try represents a success, return the underlying value. Otherwise, throw the Throwable
          * associated with the failure.
+         * <p>
+         * The Throwable is thrown as it is, not a copy, so whatever is done to it, e.g. adding the
+         * exception of a failing {@code close()} to its suppressed exceptions, in a try-with-resources
+         * statement, is seen by every holder of this failure, including the other failures sharing it
+         * through a {@link FailureInterner}.
          * @return the value held by this Try, if it represents a success
          * @throws Throwable if this represents a failure
          */
         public T get() throws Throwable {
-            if(this.error.isPresent()) {
-                throw this.error.get();
+            if (this.failure) {
+                throw cause();
+            }
+            return value();
+        }
+
+        /**
+         * Return the underlying value, if this represents a success, or null if this represents a failure.
+         * Unlike {@link #get()}, this never throws.
+         * @return the value, if success, otherwise null
+         */
+        public T getOrNull() {
+            return this.failure ? null : value();
+        }
+
+        /**
+         * Return the Throwable of this Try, if it represents a failure, or null if it represents a success.
+         * @return the Throwable, if failure, otherwise null
+         */
+        public Throwable getCause() {
+            return this.failure ? cause() : null;
+        }
+
+        /**
+         * If this Try represents a success, return the underlying value. Otherwise, throw the Throwable
+         * associated with the failure if it is unchecked, i.e. a RuntimeException or an Error, or an
+         * {@link UndeclaredThrowableException} wrapping it if it is a checked exception.
+         * @return the value held by this Try, if it represents a success
+         * @throws RuntimeException if this represents a failure with a RuntimeException
+         * @throws Error if this represents a failure with an Error
+         * @throws UndeclaredThrowableException if this represents a failure with a checked exception
+         */
+        public T getOrThrowUnchecked() {
+            if (!this.failure) {
+                return value();
+            }
+
+            Throwable cause = cause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new UndeclaredThrowableException(cause);
+        }
+
+        /**
+         * Applies onSuccess to the value of this Try, if it represents a success, or onFailure to its
+         * Throwable, if it represents a failure, and return the result. Exceptions thrown by either
+         * function are not captured and propagate to the caller.
+         * @param <R> the type of the result of both functions
+         * @param onSuccess a function to apply to the value, if success
+         * @param onFailure a function to apply to the throwable, if failure
+         * @return the result of the function that was applied
+         * @throws NullPointerException if either function is null
+         */
+        public <R> R fold(Function<? super T, ? extends R> onSuccess, Function<? super Throwable, ? extends R> onFailure) {
+            Objects.requireNonNull(onSuccess);
+            Objects.requireNonNull(onFailure);
+
+            return this.failure ? onFailure.apply(cause()) : onSuccess.apply(value());
+        }
+
+        /**
+         * Performs the given action on the value of this Try, if it represents a success, otherwise does nothing.
+         * @param action an action to perform on the value, if success
+         * @throws NullPointerException if the action is null
+         */
+        public void ifSuccess(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+
+            if (!this.failure) {
+                action.accept(value());
+            }
+        }
+
+        /**
+         * Performs the given action on the Throwable of this Try, if it represents a failure, otherwise does nothing.
+         * @param action an action to perform on the throwable, if failure
+         * @throws NullPointerException if the action is null
+         */
+        public void ifFailure(Consumer<? super Throwable> action) {
+            Objects.requireNonNull(action);
+
+            if (this.failure) {
+                action.accept(cause());
+            }
+        }
+
+        /**
+         * Performs onSuccess on the value of this Try, if it represents a success, otherwise performs
+         * onFailure on its Throwable.
+         * @param onSuccess an action to perform on the value, if success
+         * @param onFailure an action to perform on the throwable, if failure
+         * @throws NullPointerException if either action is null
+         */
+        public void ifSuccessOrElse(Consumer<? super T> onSuccess, Consumer<? super Throwable> onFailure) {
+            Objects.requireNonNull(onSuccess);
+            Objects.requireNonNull(onFailure);
+
+            if (this.failure) {
+                onFailure.accept(cause());
+            } else {
+                onSuccess.accept(value());
             }
-            return value;
         }
 
         /**
@@ -195,8 +1089,7 @@ public final class Try<T> {
          * @return the value, if success, otherwise other
          */
         public T orElse(T other) {
-            return this.error.map(error -> other)
-                             .orElse(this.value);
+            return this.failure ? other : value();
         }
 
         /**
@@ -208,9 +1101,7 @@ public final class Try<T> {
          */
         public Try<T> orElseGet(ThrowableSupplier<T> other) {
             Objects.requireNonNull(other);
-            return this.error.map(error -> other)
-                             .map(Try::of)
-                             .orElse(this);
+            return this.failure ? Try.of(other) : this;
         }
 
         /**
@@ -218,7 +1109,7 @@ public final class Try<T> {
          * @return true if this is a failure, otherwise false
          */
         public boolean isFailure() {
-            return this.error.isPresent();
+            return this.failure;
         }
 
         /**
@@ -229,6 +1120,8 @@ public final class Try<T> {
          * <li>both instances are a failure and their Throwables are "equal to" each other via {@code equals()} or;
          * <li>both instances are a success and their values are "equal to" each other via {@code equals()}.
          * </ul>
+         * Identical failures shared through a {@link FailureInterner} are the same Throwable, so they
+         * compare equal by identity.
          * @param obj an object to be tested for equality
          * @return if the other object is "equal to" this object otherwise false
          */
@@ -243,24 +1136,21 @@ public final class Try<T> {
             }
 
             Try<?> other = (Try<?>) obj;
-            if (this.isFailure() && other.isFailure()) {
-                return Objects.equals(this.error, other.error);
-            } else if (!this.isFailure() && !other.isFailure()) {
-                return Objects.equals(this.value, other.value);
-            }
-            return false;
+            return this.failure == other.failure && Objects.equals(this.result, other.result);
         }
 
         /**
          * Returns the hash code value of the underlying value, if this represents a success,
-         * or 0 (zero) if no value is present.
-         * @return hash code value of the underlying value or 0 if this represents a failure
+         * or the hash code value of the Throwable, if this represents a failure. A success
+         * holding null has a hash code of 0 (zero).
+         * <p>
+         * The hash code is not cached, since the underlying value might be mutable; values such
+         * as String already cache their own hash code.
+         * @return hash code value of the underlying value or Throwable
          */
         @Override
         public int hashCode() {
-            this.error.map(throwable -> 0)
-                      .orElse(this.value.hashCode());
-            return 0;
+            return Objects.hashCode(this.result);
         }
 
         /**
@@ -269,16 +1159,106 @@ public final class Try<T> {
          */
         @Override
         public String toString() {
-            return this.error.map(throwable -> "Try.failure(" + throwable + ")")
-                             .orElse("Try.success(" + this.value + ")");
+            return this.failure ? "Try.failure(" + this.result + ")"
+                                : "Try.success(" + this.result + ")";
+        }
+
+        /**
+         * Returns a success holding the specified value, which may be null, as a success
+         * produced by {@link #of(ThrowableSupplier)} may.
+         */
+        static <T> Try<T> ofValue(T value) {
+            return new Try<>(value, false);
+        }
+
+        private static <T> Try<T> failed(Throwable t) {
+            return new Try<>(t, true);
         }
 
-        private Try(T value, Optional<Throwable> error) {
-            this.value = value;
-            this.error = error;
+        private static <T> Try<T> caught(Throwable t) {
+            return failed(StackTracePolicy.capture(t));
         }
 
-        private <X, U> ThrowableSupplier<U> lazyApply(X t, Function<X, ? extends U> recover) {
-            return () -> recover.apply(t);
+        /*
+         * The helpers below keep the public methods under the JIT's MaxInlineSize (35 bytes of
+         * bytecode), so they inline even at call sites that are not hot. Each one also calls user
+         * code before allocating the resulting Try: an allocation made before a call that might
+         * throw is kept alive by the exception path, and escape analysis then cannot remove it.
+         */
+
+        private static <A, U> Try<U> apply(Function<? super A, ? extends U> function, A argument) {
+            U applied;
+            try {
+                applied = function.apply(argument);
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return ofValue(applied);
+        }
+
+        private static <A, U> Try<U> applyTry(ThrowableFunction<? super A, ? extends U> function, A argument) {
+            U applied;
+            try {
+                applied = function.apply(argument);
+            } catch (Throwable t) {
+                return caught(t);
+            }
+            return ofValue(applied);
+        }
+
+        private static <T> Try<T> translate(Function<Throwable, ? extends Throwable> translator, Throwable t) {
+            Throwable translated;
+            try {
+                translated = Objects.requireNonNull(translator.apply(t));
+            } catch (Throwable thrown) {
+                return caught(thrown);
+            }
+            return failed(translated);
+        }
+
+        private Try<T> rejected() {
+            return failed(new PredicateFailedException(this.result));
+        }
+
+        private Try(Object result, boolean failure) {
+            this.result = result;
+            this.failure = failure;
+        }
+
+        @SuppressWarnings("unchecked")
+        T value() {
+            return (T) this.result;
+        }
+
+        Throwable cause() {
+            return (Throwable) this.result;
+        }
+
+        /**
+         * Returns the shared success instance holding the specified value, or null if there is none.
+         * Kept out of {@link #success(Object)} so that method stays small enough to inline.
+         */
+        private static Try<?> shared(Object value) {
+            if (value instanceof Boolean) {
+                return ((Boolean) value).booleanValue() ? TRUE : FALSE;
+            }
+            if (value instanceof Integer) {
+                int i = ((Integer) value).intValue();
+                if (i >= SMALL_INTEGER_LOW && i <= SMALL_INTEGER_HIGH) {
+                    return SMALL_INTEGERS[i - SMALL_INTEGER_LOW];
+                }
+            } else if (value instanceof String && ((String) value).isEmpty()) {
+                return EMPTY_STRING;
+            }
+            return null;
+        }
+
+        /**
+         * A failure holds no value, so it can stand in for a Try of any type.
+         * This lets failures short-circuit through the chain without allocating.
+         */
+        @SuppressWarnings("unchecked")
+        private <U> Try<U> retype() {
+            return (Try<U>) this;
         }
 }
\ No newline at end of file
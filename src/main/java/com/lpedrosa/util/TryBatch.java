@@ -0,0 +1,407 @@
+package com.lpedrosa.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A columnar container for the results of many computations that might have failed,
+ * equivalent to a list of {@link Try} instances but without one object per result.
+ * <p>
+ * Like Try, each position holds either a value or the Throwable of a failure in a single
+ * slot of one backing array, and a {@link BitSet} marks which positions are failures. A batch
+ * therefore costs one reference per result plus one bit, and the bulk operations
+ * ({@link #map(Function)}, {@link #filter(Predicate)}, {@link #recover(Function)},
+ * {@link #partition()}) walk the arrays directly instead of going through a Try per element.
+ * <p>
+ * Batches are immutable; bulk operations return a new batch of the same size, where each
+ * position holds the result of applying the operation to the same position of this batch.
+ * <p>
+ * Instances of this class can be created by using {@link #of(Object[], Function)}, or
+ * incrementally through a {@link Builder}.
+ *
+ * @author lpedrosa
+ * @param <T> the type of the successful values
+ * @see Try
+ */
+public final class TryBatch<T> {
+
+    private final Object[] slots;
+    private final BitSet failures;
+
+    /**
+     * Returns a batch holding the result of applying the specified function to each input.
+     * Exceptions thrown by the function are captured as failures at the same position,
+     * as {@link Try#map(Function)} would.
+     * @param <I> the type of the inputs
+     * @param <T> the type of the successful values
+     * @param inputs the inputs to the function, which must be non-null
+     * @param function the function to apply to each input, which must be non-null
+     * @return a batch with one result per input
+     * @throws NullPointerException if inputs or function is null
+     */
+    public static <I, T> TryBatch<T> of(I[] inputs, Function<? super I, ? extends T> function) {
+        Objects.requireNonNull(inputs);
+        Objects.requireNonNull(function);
+
+        Object[] slots = new Object[inputs.length];
+        BitSet failures = new BitSet();
+        for (int i = 0; i < inputs.length; i++) {
+            try {
+                slots[i] = function.apply(inputs[i]);
+            } catch (Throwable t) {
+                slots[i] = StackTracePolicy.capture(t);
+                failures.set(i);
+            }
+        }
+        return new TryBatch<>(slots, failures);
+    }
+
+    /**
+     * Returns a new builder with room for the specified number of results.
+     * @param <T> the type of the successful values
+     * @param expectedSize the expected number of results, used to pre-size the builder
+     * @return a new, empty builder
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public static <T> Builder<T> builder(int expectedSize) {
+        return new Builder<>(expectedSize);
+    }
+
+    /**
+     * Returns the number of results in this batch.
+     * @return the number of results
+     */
+    public int size() {
+        return this.slots.length;
+    }
+
+    /**
+     * Returns the number of failures in this batch.
+     * @return the number of failures
+     */
+    public int failureCount() {
+        return this.failures.cardinality();
+    }
+
+    /**
+     * Return true if the result at the specified position represents a failure, otherwise false
+     * @param index the position of the result
+     * @return true if the result is a failure, otherwise false
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean isFailure(int index) {
+        checkIndex(index);
+        return this.failures.get(index);
+    }
+
+    /**
+     * Returns the result at the specified position as a Try. This allocates a Try, so it is
+     * meant for occasional access rather than for scanning the batch.
+     * @param index the position of the result
+     * @return a Try describing the result at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Try<T> get(int index) {
+        checkIndex(index);
+        if (this.failures.get(index)) {
+            return Try.failure((Throwable) this.slots[index]);
+        }
+        return Try.ofValue(value(index));
+    }
+
+    /**
+     * Return the value at the specified position, if it represents a success. Otherwise return other
+     * @param index the position of the result
+     * @param other the value to be returned if the result is a failure, may be null
+     * @return the value, if success, otherwise other
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T orElse(int index, T other) {
+        checkIndex(index);
+        return this.failures.get(index) ? other : value(index);
+    }
+
+    /**
+     * Applies the provided mapping function to every successful value of this batch. Failures are
+     * kept at their positions, and exceptions thrown by the mapping function become failures.
+     * @param <U> The type of the result of the mapping function
+     * @param mapper a mapping function to apply to each successful value
+     * @return a batch describing the result of applying the mapping function to each successful value
+     * @throws NullPointerException if the mapping function is null
+     */
+    public <U> TryBatch<U> map(Function<? super T, ? extends U> mapper) {
+        Objects.requireNonNull(mapper);
+
+        Object[] mapped = this.slots.clone();
+        BitSet mappedFailures = (BitSet) this.failures.clone();
+        int size = this.slots.length;
+        for (int i = this.failures.nextClearBit(0); i < size; i = this.failures.nextClearBit(i + 1)) {
+            try {
+                mapped[i] = mapper.apply(value(i));
+            } catch (Throwable t) {
+                mapped[i] = StackTracePolicy.capture(t);
+                mappedFailures.set(i);
+            }
+        }
+        return new TryBatch<>(mapped, mappedFailures);
+    }
+
+    /**
+     * Tests every successful value of this batch with the given predicate. Values that do not match
+     * become failures wrapping a {@link PredicateFailedException}, as {@link Try#filter(Predicate)} would.
+     * @param predicate a predicate to apply to each successful value
+     * @return a batch in which the successful values that do not match the predicate are failures
+     * @throws NullPointerException if the predicate is null
+     */
+    public TryBatch<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+
+        Object[] filtered = null;
+        BitSet filteredFailures = null;
+        int size = this.slots.length;
+        for (int i = this.failures.nextClearBit(0); i < size; i = this.failures.nextClearBit(i + 1)) {
+            Throwable rejection = null;
+            try {
+                if (!predicate.test(value(i))) {
+                    rejection = new PredicateFailedException(this.slots[i]);
+                }
+            } catch (Throwable t) {
+                rejection = StackTracePolicy.capture(t);
+            }
+            if (rejection != null) {
+                if (filtered == null) {
+                    filtered = this.slots.clone();
+                    filteredFailures = (BitSet) this.failures.clone();
+                }
+                filtered[i] = rejection;
+                filteredFailures.set(i);
+            }
+        }
+        return filtered == null ? this : new TryBatch<>(filtered, filteredFailures);
+    }
+
+    /**
+     * Applies the provided recover function to the throwable of every failure of this batch.
+     * Successful values are kept, and exceptions thrown by the recover function replace the
+     * original failure.
+     * @param recoverFunc a recover function to apply to each throwable
+     * @return a batch describing the result of applying the recover function to each failure
+     * @throws NullPointerException if the recover function is null
+     */
+    public TryBatch<T> recover(Function<Throwable, ? extends T> recoverFunc) {
+        Objects.requireNonNull(recoverFunc);
+
+        if (this.failures.isEmpty()) {
+            return this;
+        }
+
+        Object[] recovered = this.slots.clone();
+        BitSet recoveredFailures = (BitSet) this.failures.clone();
+        for (int i = this.failures.nextSetBit(0); i >= 0; i = this.failures.nextSetBit(i + 1)) {
+            try {
+                recovered[i] = recoverFunc.apply((Throwable) this.slots[i]);
+                recoveredFailures.clear(i);
+            } catch (Throwable t) {
+                recovered[i] = StackTracePolicy.capture(t);
+            }
+        }
+        return new TryBatch<>(recovered, recoveredFailures);
+    }
+
+    /**
+     * Splits this batch into its successful values and its failures, each kept in encounter order.
+     * @return the partition of this batch
+     */
+    public Partition<T> partition() {
+        return partition(this.slots, this.slots.length, this.failures);
+    }
+
+    /**
+     * Returns a non-empty string representation of this batch suitable for debugging.
+     * @return a string representation of this instance
+     */
+    @Override
+    public String toString() {
+        return "TryBatch(size=" + size() + ", failures=" + failureCount() + ")";
+    }
+
+    TryBatch(Object[] slots, BitSet failures) {
+        this.slots = slots;
+        this.failures = failures;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Partition<T> partition(Object[] slots, int size, BitSet failures) {
+        int failureCount = failures.cardinality();
+
+        List<T> successes = new ArrayList<>(size - failureCount);
+        for (int i = failures.nextClearBit(0); i < size; i = failures.nextClearBit(i + 1)) {
+            successes.add((T) slots[i]);
+        }
+
+        List<Throwable> errors = new ArrayList<>(failureCount);
+        for (int i = failures.nextSetBit(0); i >= 0; i = failures.nextSetBit(i + 1)) {
+            errors.add((Throwable) slots[i]);
+        }
+        return new Partition<>(successes, errors);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T value(int index) {
+        return (T) this.slots[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.slots.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.slots.length);
+        }
+    }
+
+    /**
+     * The successful values and the failures of a batch, as returned by {@link TryBatch#partition()}.
+     *
+     * @param <T> the type of the successful values
+     */
+    public static final class Partition<T> {
+
+        private final List<T> successes;
+        private final List<Throwable> failures;
+
+        Partition(List<T> successes, List<Throwable> failures) {
+            this.successes = Collections.unmodifiableList(successes);
+            this.failures = Collections.unmodifiableList(failures);
+        }
+
+        /**
+         * Returns the successful values, in encounter order.
+         * @return an unmodifiable list of the successful values
+         */
+        public List<T> successes() {
+            return this.successes;
+        }
+
+        /**
+         * Returns the throwables of the failures, in encounter order.
+         * @return an unmodifiable list of the throwables
+         */
+        public List<Throwable> failures() {
+            return this.failures;
+        }
+
+        @Override
+        public String toString() {
+            return "Partition(successes=" + this.successes + ", failures=" + this.failures + ")";
+        }
+    }
+
+    /**
+     * A mutable builder of {@link TryBatch} instances. Results are appended in order, and
+     * {@link #build()} returns a batch holding all of them.
+     * <p>
+     * Builders are not thread-safe.
+     *
+     * @param <T> the type of the successful values
+     */
+    public static final class Builder<T> {
+
+        private Object[] slots;
+        private final BitSet failures = new BitSet();
+        private int size;
+
+        Builder(int expectedSize) {
+            if (expectedSize < 0) {
+                throw new IllegalArgumentException("Negative expected size: " + expectedSize);
+            }
+            this.slots = new Object[expectedSize];
+        }
+
+        /**
+         * Appends a successful value.
+         * @param value the successful value, may be null
+         * @return this builder
+         */
+        public Builder<T> addSuccess(T value) {
+            ensureCapacity(this.size + 1);
+            this.slots[this.size++] = value;
+            return this;
+        }
+
+        /**
+         * Appends a failure.
+         * @param t the throwable of the failure, which must be non-null
+         * @return this builder
+         * @throws NullPointerException if t is null
+         */
+        public Builder<T> addFailure(Throwable t) {
+            Objects.requireNonNull(t);
+
+            ensureCapacity(this.size + 1);
+            this.failures.set(this.size);
+            this.slots[this.size++] = t;
+            return this;
+        }
+
+        /**
+         * Appends the result described by the specified Try.
+         * @param result the result to append, which must be non-null
+         * @return this builder
+         * @throws NullPointerException if result is null
+         */
+        public Builder<T> add(Try<? extends T> result) {
+            return result.isFailure() ? addFailure(result.cause()) : addSuccess(result.value());
+        }
+
+        /**
+         * Appends every result appended to the specified builder, in order, after the results of
+         * this builder. The specified builder may be this builder, whose results are then repeated once.
+         * @param other the builder whose results are appended, which must be non-null
+         * @return this builder
+         * @throws NullPointerException if other is null
+         */
+        public Builder<T> addAll(Builder<? extends T> other) {
+            Objects.requireNonNull(other);
+
+            // other may be this builder, whose results must then be appended only once
+            int offset = this.size;
+            int count = other.size;
+            ensureCapacity(offset + count);
+            System.arraycopy(other.slots, 0, this.slots, offset, count);
+            for (int i = other.failures.nextSetBit(0); i >= 0 && i < count; i = other.failures.nextSetBit(i + 1)) {
+                this.failures.set(offset + i);
+            }
+            this.size = offset + count;
+            return this;
+        }
+
+        /**
+         * Splits the results appended so far into their successful values and their failures,
+         * as {@link TryBatch#partition()} does, without building a batch first.
+         */
+        Partition<T> partition() {
+            return TryBatch.partition(this.slots, this.size, this.failures);
+        }
+
+        /**
+         * Returns a batch holding every result appended so far, in order.
+         * @return a new batch
+         */
+        public TryBatch<T> build() {
+            Object[] built = this.slots.length == this.size ? this.slots.clone()
+                                                            : Arrays.copyOf(this.slots, this.size);
+            return new TryBatch<>(built, (BitSet) this.failures.clone());
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > this.slots.length) {
+                int grown = Math.max(capacity, this.slots.length + (this.slots.length >> 1) + 1);
+                this.slots = Arrays.copyOf(this.slots, grown);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.lpedrosa.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Implementations of {@link Collector} for streams of {@link Try}, e.g. the results of
+ * {@code stream.map(x -> Try.of(...))}.
+ * <p>
+ * Each collector reads the values and throwables straight out of the Tries and accumulates
+ * them in a single pass, so splitting the results does not take one pass per kind of
+ * result, nor an intermediate object per element. The collectors keep encounter order, and
+ * their combiners merge partial results in order, so they may be used on parallel streams.
+ *
+ * @author lpedrosa
+ */
+public final class TryCollectors {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private TryCollectors() {
+    }
+
+    /**
+     * Returns a collector splitting the Tries into their successful values and their
+     * throwables, each kept in encounter order.
+     * @param <T> the type of the successful values
+     * @return a collector producing the partition of the Tries
+     */
+    public static <T> Collector<Try<? extends T>, ?, TryBatch.Partition<T>> partitioning() {
+        return Collector.of(() -> TryBatch.<T>builder(INITIAL_CAPACITY),
+                            TryBatch.Builder::add,
+                            TryBatch.Builder::addAll,
+                            TryBatch.Builder::partition);
+    }
+
+    /**
+     * Returns a collector gathering the values of the successful Tries, in encounter order,
+     * and ignoring the failures.
+     * @param <T> the type of the successful values
+     * @return a collector producing a new, mutable list of the successful values
+     */
+    public static <T> Collector<Try<? extends T>, ?, List<T>> successesToList() {
+        return Collector.<Try<? extends T>, List<T>>of(ArrayList::new,
+                                                       (values, result) -> {
+                                                           if (!result.isFailure()) {
+                                                               values.add(result.value());
+                                                           }
+                                                       },
+                                                       TryCollectors::concat);
+    }
+
+    /**
+     * Returns a collector gathering the throwables of the failed Tries, in encounter order,
+     * and ignoring the successes.
+     * @return a collector producing a new, mutable list of the throwables
+     */
+    public static Collector<Try<?>, ?, List<Throwable>> failuresToList() {
+        return Collector.<Try<?>, List<Throwable>>of(ArrayList::new,
+                                                     (errors, result) -> {
+                                                         if (result.isFailure()) {
+                                                             errors.add(result.cause());
+                                                         }
+                                                     },
+                                                     TryCollectors::concat);
+    }
+
+    /**
+     * Returns a collector producing a Try holding the values of all the Tries, in encounter
+     * order, if all of them are successes, otherwise the first failure, in encounter order.
+     * Values are no longer accumulated once a failure has been found.
+     * @param <T> the type of the successful values
+     * @return a collector producing a Try of a new, mutable list of the values, or the first failure
+     */
+    public static <T> Collector<Try<? extends T>, ?, Try<List<T>>> sequence() {
+        return Collector.of(Sequence<T>::new, Sequence::add, Sequence::merge, Sequence::result);
+    }
+
+    /**
+     * Returns a collector gathering the Tries into a {@link TryBatch}, in encounter order.
+     * @param <T> the type of the successful values
+     * @return a collector producing a new batch
+     */
+    public static <T> Collector<Try<? extends T>, ?, TryBatch<T>> toTryBatch() {
+        return Collector.of(() -> TryBatch.<T>builder(INITIAL_CAPACITY),
+                            TryBatch.Builder::add,
+                            TryBatch.Builder::addAll,
+                            TryBatch.Builder::build);
+    }
+
+    private static <E> List<E> concat(List<E> left, List<E> right) {
+        left.addAll(right);
+        return left;
+    }
+
+    /**
+     * The accumulation of {@link #sequence()}: the values seen so far, until the first failure.
+     */
+    private static final class Sequence<T> {
+
+        private List<T> values = new ArrayList<>(INITIAL_CAPACITY);
+        private Throwable failure;
+
+        void add(Try<? extends T> result) {
+            if (this.failure != null) {
+                return;
+            }
+            if (result.isFailure()) {
+                this.failure = result.cause();
+                this.values = null;
+            } else {
+                this.values.add(result.value());
+            }
+        }
+
+        Sequence<T> merge(Sequence<T> right) {
+            if (this.failure == null) {
+                if (right.failure != null) {
+                    return right;
+                }
+                this.values.addAll(right.values);
+            }
+            return this;
+        }
+
+        Try<List<T>> result() {
+            return this.failure != null ? Try.failure(this.failure) : Try.ofValue(this.values);
+        }
+    }
+}
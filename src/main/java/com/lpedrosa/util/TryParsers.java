@@ -0,0 +1,570 @@
+package com.lpedrosa.util;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Parsers for common value types that report malformed input as a failure instead of
+ * throwing it.
+ * <p>
+ * {@code Try.of(() -> Integer.parseInt(s))} pays for a {@code NumberFormatException},
+ * its stack trace and the unwinding back to {@link Try#of} on every malformed input.
+ * The parsers in this class validate the input as they go and return the failure
+ * directly: nothing is thrown, and the failures do not capture a stack trace, nor
+ * build their message until it is requested.
+ * <p>
+ * Every parser accepts a {@link CharSequence} and, optionally, a {@code [start, end)}
+ * range of it, so a field can be parsed in place, without extracting a substring first.
+ * A failure keeps a reference to the input to build its message, which therefore
+ * reflects the contents of the input at the time the message is first requested.
+ * <p>
+ * Numbers are parsed as decimals, with an optional leading sign. Unlike the
+ * {@code java.lang} parsers, no surrounding whitespace is accepted, and doubles do not
+ * accept the hexadecimal form or the {@code d} and {@code f} suffixes.
+ *
+ * @author lpedrosa
+ */
+public final class TryParsers {
+
+    /** The powers of ten that are exactly representable as a double. */
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /** Doubles have a 53-bit significand, so any integer below this converts exactly. */
+    private static final long EXACT_MANTISSA_LIMIT = 1L << 53;
+
+    /** Decimal digits kept in a long mantissa before the remaining ones are only counted. */
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    private static final int UUID_LENGTH = 36;
+    private static final int ISO_DATE_LENGTH = 10;
+
+    private TryParsers() {
+    }
+
+    /**
+     * Parses the specified input as a signed decimal {@code int}.
+     * @param input the characters to parse, which must be non-null
+     * @return a success holding the parsed value, or a failure holding a
+     * {@link NumberFormatException} if the input is not a valid {@code int}
+     * @throws NullPointerException if input is null
+     */
+    public static IntTry parseInt(CharSequence input) {
+        return parseInt(input, 0, input.length());
+    }
+
+    /**
+     * Parses the characters of the specified input, from start (inclusive) to end
+     * (exclusive), as a signed decimal {@code int}.
+     * @param input the characters to parse, which must be non-null
+     * @param start the index of the first character to parse
+     * @param end the index after the last character to parse
+     * @return a success holding the parsed value, or a failure holding a
+     * {@link NumberFormatException} if the range is not a valid {@code int}
+     * @throws NullPointerException if input is null
+     * @throws IndexOutOfBoundsException if the range is not within the input
+     */
+    public static IntTry parseInt(CharSequence input, int start, int end) {
+        checkRange(input, start, end);
+
+        int i = start;
+        if (i == end) {
+            return IntTry.failure(new InvalidNumberException("Empty input", input, start, end));
+        }
+        char first = input.charAt(i);
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == end) {
+            return IntTry.failure(new InvalidNumberException("Sign without digits", input, start, end));
+        }
+
+        // accumulate negatively, so that MIN_VALUE does not overflow
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int limitBeforeMultiply = limit / 10;
+        int result = 0;
+        for (; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return IntTry.failure(new InvalidNumberException("Not a decimal digit", i, input, start, end));
+            }
+            if (result < limitBeforeMultiply || result * 10 < limit + digit) {
+                return IntTry.failure(new InvalidNumberException("Out of int range", input, start, end));
+            }
+            result = result * 10 - digit;
+        }
+        return IntTry.success(negative ? result : -result);
+    }
+
+    /**
+     * Parses the specified input as a signed decimal {@code long}.
+     * @param input the characters to parse, which must be non-null
+     * @return a success holding the parsed value, or a failure holding a
+     * {@link NumberFormatException} if the input is not a valid {@code long}
+     * @throws NullPointerException if input is null
+     */
+    public static LongTry parseLong(CharSequence input) {
+        return parseLong(input, 0, input.length());
+    }
+
+    /**
+     * Parses the characters of the specified input, from start (inclusive) to end
+     * (exclusive), as a signed decimal {@code long}.
+     * @param input the characters to parse, which must be non-null
+     * @param start the index of the first character to parse
+     * @param end the index after the last character to parse
+     * @return a success holding the parsed value, or a failure holding a
+     * {@link NumberFormatException} if the range is not a valid {@code long}
+     * @throws NullPointerException if input is null
+     * @throws IndexOutOfBoundsException if the range is not within the input
+     */
+    public static LongTry parseLong(CharSequence input, int start, int end) {
+        checkRange(input, start, end);
+
+        int i = start;
+        if (i == end) {
+            return LongTry.failure(new InvalidNumberException("Empty input", input, start, end));
+        }
+        char first = input.charAt(i);
+        boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == end) {
+            return LongTry.failure(new InvalidNumberException("Sign without digits", input, start, end));
+        }
+
+        // accumulate negatively, so that MIN_VALUE does not overflow
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long limitBeforeMultiply = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return LongTry.failure(new InvalidNumberException("Not a decimal digit", i, input, start, end));
+            }
+            if (result < limitBeforeMultiply || result * 10 < limit + digit) {
+                return LongTry.failure(new InvalidNumberException("Out of long range", input, start, end));
+            }
+            result = result * 10 - digit;
+        }
+        return LongTry.success(negative ? result : -result);
+    }
+
+    /**
+     * Parses the specified input as a decimal {@code double}.
+     * @param input the characters to parse, which must be non-null
+     * @return a success holding the parsed value, or a failure holding a
+     * {@link NumberFormatException} if the input is not a valid decimal number
+     * @throws NullPointerException if input is null
+     * @see #parseDouble(CharSequence, int, int)
+     */
+    public static DoubleTry parseDouble(CharSequence input) {
+        return parseDouble(input, 0, input.length());
+    }
+
+    /**
+     * Parses the characters of the specified input, from start (inclusive) to end
+     * (exclusive), as a decimal {@code double}, rounded to the nearest double as
+     * {@link Double#parseDouble(String)} does.
+     * <p>
+     * The accepted form is an optional sign, followed by either {@code NaN},
+     * {@code Infinity}, or digits with an optional fraction and an optional exponent,
+     * e.g. {@code -12.5e-3}. Numbers with at most 15 significant digits and a small
+     * exponent are converted without allocating; others are validated first and then
+     * handed to {@link Double#parseDouble(String)}.
+     * @param input the characters to parse, which must be non-null
+     * @param start the index of the first character to parse
+     * @param end the index after the last character to parse
+     * @return a success holding the parsed value, or a failure holding a
+     * {@link NumberFormatException} if the range is not a valid decimal number
+     * @throws NullPointerException if input is null
+     * @throws IndexOutOfBoundsException if the range is not within the input
+     */
+    public static DoubleTry parseDouble(CharSequence input, int start, int end) {
+        checkRange(input, start, end);
+
+        int i = start;
+        boolean negative = false;
+        if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            negative = input.charAt(i++) == '-';
+        }
+        if (matches(input, i, end, "NaN")) {
+            return DoubleTry.success(Double.NaN);
+        }
+        if (matches(input, i, end, "Infinity")) {
+            return DoubleTry.success(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+
+        long mantissa = 0;
+        int mantissaDigits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+        boolean anyDigit = false;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            anyDigit = true;
+            if (mantissa == 0 && digit == 0) {
+                // leading zeros are not significant
+                exponent -= fraction ? 1 : 0;
+            } else if (mantissaDigits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + digit;
+                mantissaDigits++;
+                exponent -= fraction ? 1 : 0;
+            } else {
+                truncated = true;
+                exponent += fraction ? 0 : 1;
+            }
+        }
+        if (!anyDigit) {
+            return DoubleTry.failure(new InvalidNumberException("No digits", input, start, end));
+        }
+
+        if (i < end && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+                negativeExponent = input.charAt(i++) == '-';
+            }
+            int exponentStart = i;
+            int explicitExponent = 0;
+            for (; i < end; i++) {
+                int digit = input.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                // beyond this, the result is zero or infinite anyway
+                if (explicitExponent < 100_000) {
+                    explicitExponent = explicitExponent * 10 + digit;
+                }
+            }
+            if (i == exponentStart) {
+                return DoubleTry.failure(new InvalidNumberException("Exponent without digits", input, start, end));
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i < end) {
+            return DoubleTry.failure(new InvalidNumberException("Unexpected character", i, input, start, end));
+        }
+
+        // Both operands are exact, so the single rounding of the division or multiplication
+        // gives the correctly rounded result (Clinger's fast path).
+        if (!truncated && mantissa < EXACT_MANTISSA_LIMIT
+                && exponent >= -22 && exponent <= 22) {
+            double value = exponent < 0
+                    ? mantissa / EXACT_POWERS_OF_TEN[-exponent]
+                    : mantissa * EXACT_POWERS_OF_TEN[exponent];
+            return DoubleTry.success(negative ? -value : value);
+        }
+        // the range was validated above, so this does not throw
+        return DoubleTry.success(Double.parseDouble(input.subSequence(start, end).toString()));
+    }
+
+    /**
+     * Parses the specified input as a boolean.
+     * @param input the characters to parse, which must be non-null
+     * @return a success holding the parsed value, or a failure holding an
+     * {@link IllegalArgumentException} if the input is neither {@code true} nor {@code false}
+     * @throws NullPointerException if input is null
+     * @see #parseBoolean(CharSequence, int, int)
+     */
+    public static Try<Boolean> parseBoolean(CharSequence input) {
+        return parseBoolean(input, 0, input.length());
+    }
+
+    /**
+     * Parses the characters of the specified input, from start (inclusive) to end
+     * (exclusive), as a boolean. Only {@code true} and {@code false} are accepted,
+     * ignoring case; unlike {@link Boolean#parseBoolean(String)}, any other input is
+     * a failure rather than {@code false}.
+     * @param input the characters to parse, which must be non-null
+     * @param start the index of the first character to parse
+     * @param end the index after the last character to parse
+     * @return a success holding the parsed value, or a failure holding an
+     * {@link IllegalArgumentException} if the range is neither {@code true} nor {@code false}
+     * @throws NullPointerException if input is null
+     * @throws IndexOutOfBoundsException if the range is not within the input
+     */
+    public static Try<Boolean> parseBoolean(CharSequence input, int start, int end) {
+        checkRange(input, start, end);
+
+        if (matchesIgnoreCase(input, start, end, "true")) {
+            return Try.success(Boolean.TRUE);
+        }
+        if (matchesIgnoreCase(input, start, end, "false")) {
+            return Try.success(Boolean.FALSE);
+        }
+        return Try.failure(new InvalidFormatException("Not a boolean", input, start, end));
+    }
+
+    /**
+     * Parses the specified input as a UUID.
+     * @param input the characters to parse, which must be non-null
+     * @return a success holding the parsed value, or a failure holding an
+     * {@link IllegalArgumentException} if the input is not a valid UUID
+     * @throws NullPointerException if input is null
+     * @see #parseUuid(CharSequence, int, int)
+     */
+    public static Try<UUID> parseUuid(CharSequence input) {
+        return parseUuid(input, 0, input.length());
+    }
+
+    /**
+     * Parses the characters of the specified input, from start (inclusive) to end
+     * (exclusive), as a UUID in its canonical form, i.e. 32 hexadecimal digits
+     * grouped 8-4-4-4-12 by hyphens, as produced by {@link UUID#toString()}.
+     * @param input the characters to parse, which must be non-null
+     * @param start the index of the first character to parse
+     * @param end the index after the last character to parse
+     * @return a success holding the parsed value, or a failure holding an
+     * {@link IllegalArgumentException} if the range is not a valid UUID
+     * @throws NullPointerException if input is null
+     * @throws IndexOutOfBoundsException if the range is not within the input
+     */
+    public static Try<UUID> parseUuid(CharSequence input, int start, int end) {
+        checkRange(input, start, end);
+
+        if (end - start != UUID_LENGTH) {
+            return Try.failure(new InvalidFormatException("Not 36 characters long", input, start, end));
+        }
+        long mostSignificant = 0;
+        long leastSignificant = 0;
+        for (int offset = 0; offset < UUID_LENGTH; offset++) {
+            char c = input.charAt(start + offset);
+            if (offset == 8 || offset == 13 || offset == 18 || offset == 23) {
+                if (c != '-') {
+                    return Try.failure(new InvalidFormatException("Expected '-'", start + offset,
+                                                                  input, start, end));
+                }
+                continue;
+            }
+            int digit = Character.digit(c, 16);
+            if (digit < 0) {
+                return Try.failure(new InvalidFormatException("Not a hexadecimal digit", start + offset,
+                                                              input, start, end));
+            }
+            if (offset < 19) {
+                mostSignificant = mostSignificant << 4 | digit;
+            } else {
+                leastSignificant = leastSignificant << 4 | digit;
+            }
+        }
+        return Try.success(new UUID(mostSignificant, leastSignificant));
+    }
+
+    /**
+     * Parses the specified input as an ISO-8601 local date.
+     * @param input the characters to parse, which must be non-null
+     * @return a success holding the parsed value, or a failure holding a
+     * {@link DateTimeParseException} if the input is not a valid date
+     * @throws NullPointerException if input is null
+     * @see #parseLocalDate(CharSequence, int, int)
+     */
+    public static Try<LocalDate> parseLocalDate(CharSequence input) {
+        return parseLocalDate(input, 0, input.length());
+    }
+
+    /**
+     * Parses the characters of the specified input, from start (inclusive) to end
+     * (exclusive), as an ISO-8601 local date of the form {@code yyyy-MM-dd}, e.g.
+     * {@code 2014-06-30}. Years outside 0000 to 9999, which
+     * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE} writes with a sign,
+     * are not accepted.
+     * @param input the characters to parse, which must be non-null
+     * @param start the index of the first character to parse
+     * @param end the index after the last character to parse
+     * @return a success holding the parsed value, or a failure holding a
+     * {@link DateTimeParseException} if the range is not a valid date
+     * @throws NullPointerException if input is null
+     * @throws IndexOutOfBoundsException if the range is not within the input
+     */
+    public static Try<LocalDate> parseLocalDate(CharSequence input, int start, int end) {
+        checkRange(input, start, end);
+
+        if (end - start != ISO_DATE_LENGTH) {
+            return Try.failure(new InvalidDateException("Not 10 characters long", input, start, end, 0));
+        }
+        int year = digits(input, start, start + 4);
+        if (year < 0) {
+            return Try.failure(new InvalidDateException("Invalid year", input, start, end, 0));
+        }
+        if (input.charAt(start + 4) != '-' || input.charAt(start + 7) != '-') {
+            return Try.failure(new InvalidDateException("Expected yyyy-MM-dd", input, start, end, 4));
+        }
+        int month = digits(input, start + 5, start + 7);
+        if (month < 1 || month > 12) {
+            return Try.failure(new InvalidDateException("Invalid month", input, start, end, 5));
+        }
+        int day = digits(input, start + 8, end);
+        if (day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return Try.failure(new InvalidDateException("Invalid day of month", input, start, end, 8));
+        }
+        return Try.success(LocalDate.of(year, month, day));
+    }
+
+    private static void checkRange(CharSequence input, int start, int end) {
+        Objects.requireNonNull(input);
+
+        if (start < 0 || start > end || end > input.length()) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of bounds for length "
+                                                + input.length());
+        }
+    }
+
+    private static boolean matches(CharSequence input, int start, int end, String expected) {
+        if (end - start != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (input.charAt(start + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesIgnoreCase(CharSequence input, int start, int end, String lowerCase) {
+        if (end - start != lowerCase.length()) {
+            return false;
+        }
+        for (int i = 0; i < lowerCase.length(); i++) {
+            if (Character.toLowerCase(input.charAt(start + i)) != lowerCase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns the value of the decimal digits in the range, or -1 if there is a non-digit. */
+    private static int digits(CharSequence input, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static String describe(String reason, int index, CharSequence input, int start, int end) {
+        String located = index < 0 ? reason : reason + " at index " + index;
+        return input == null ? located : located + ": \"" + input.subSequence(start, end) + "\"";
+    }
+
+    private static final class InvalidNumberException extends NumberFormatException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String reason;
+        private final int index;
+        private final transient CharSequence input;
+        private final int start;
+        private final int end;
+
+        InvalidNumberException(String reason, CharSequence input, int start, int end) {
+            this(reason, -1, input, start, end);
+        }
+
+        /**
+         * The index of the offending character is kept rather than formatted, so the message is
+         * only built if it is requested.
+         */
+        InvalidNumberException(String reason, int index, CharSequence input, int start, int end) {
+            this.reason = reason;
+            this.index = index;
+            this.input = input;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String getMessage() {
+            return describe(this.reason, this.index, this.input, this.start, this.end);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final class InvalidFormatException extends IllegalArgumentException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String reason;
+        private final int index;
+        private final transient CharSequence input;
+        private final int start;
+        private final int end;
+
+        InvalidFormatException(String reason, CharSequence input, int start, int end) {
+            this(reason, -1, input, start, end);
+        }
+
+        InvalidFormatException(String reason, int index, CharSequence input, int start, int end) {
+            this.reason = reason;
+            this.index = index;
+            this.input = input;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String getMessage() {
+            return describe(this.reason, this.index, this.input, this.start, this.end);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    private static final class InvalidDateException extends DateTimeParseException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient CharSequence input;
+        private final int start;
+        private final int end;
+
+        /**
+         * DateTimeParseException copies the text it is given, so it is given none; the parsed
+         * text is only copied out of the input if it is requested.
+         */
+        InvalidDateException(String reason, CharSequence input, int start, int end, int errorIndex) {
+            super(reason, "", errorIndex);
+            this.input = input;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String getParsedString() {
+            return this.input == null ? super.getParsedString() : this.input.subSequence(this.start, this.end).toString();
+        }
+
+        @Override
+        public String getMessage() {
+            return describe(super.getMessage(), -1, this.input, this.start, this.end);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.lpedrosa.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A reusable chain of {@link Try} operations, built once and applied to many inputs.
+ * <p>
+ * Applying the same fluent chain to every record, e.g.
+ * {@code Try.success(record).map(f).filter(p).recover(r)}, creates a Try per stage and per
+ * record. A TryPipeline records the stages instead, and {@link #apply(Object)} runs them in a
+ * single loop that keeps the current value or throwable in local variables, so only the final
+ * Try is created:
+ * <pre>
+ * {@code
+ * TryPipeline<String, Integer> parse = TryPipeline.<String>start()
+ *                                                 .map(String::trim)
+ *                                                 .map(Integer::parseInt)
+ *                                                 .filter(i -> i >= 0)
+ *                                                 .recover(t -> 0);
+ * Try<Integer> parsed = parse.apply(" 42 ");
+ * TryBatch<Integer> all = parse.applyAll(records);
+ * }
+ * </pre>
+ * The stages have the same semantics as their Try counterparts: failures skip {@code map},
+ * {@code flatMap} and {@code filter}, exceptions thrown by a stage become failures, and
+ * {@code recover} only runs on failures.
+ * <p>
+ * Pipelines are immutable, so adding a stage returns a new pipeline, and they can be shared
+ * between threads as long as their stages can.
+ *
+ * @author lpedrosa
+ * @param <I> the type of the inputs of the pipeline
+ * @param <O> the type of the successful outputs of the pipeline
+ * @see Try
+ */
+public final class TryPipeline<I, O> {
+
+    private static final int MAP = 0;
+    private static final int FLAT_MAP = 1;
+    private static final int FILTER = 2;
+    private static final int RECOVER = 3;
+
+    private static final TryPipeline<?, ?> IDENTITY = new TryPipeline<>(new int[0], new Object[0]);
+
+    private final int[] kinds;
+    private final Object[] functions;
+
+    /**
+     * Returns an empty pipeline, which returns its input as a success.
+     * @param <T> the type of the inputs of the pipeline
+     * @return an empty pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TryPipeline<T, T> start() {
+        return (TryPipeline<T, T>) IDENTITY;
+    }
+
+    /**
+     * Returns a pipeline that applies the provided mapping function after the stages of this pipeline.
+     * @param <U> The type of the result of the mapping function
+     * @param mapper a mapping function to apply to the value, if success
+     * @return a new pipeline with the additional stage
+     * @throws NullPointerException if the mapping function is null
+     * @see Try#map(Function)
+     */
+    public <U> TryPipeline<I, U> map(Function<? super O, ? extends U> mapper) {
+        return append(MAP, Objects.requireNonNull(mapper));
+    }
+
+    /**
+     * Returns a pipeline that applies the provided Try-bearing mapping function after the stages of
+     * this pipeline.
+     * @param <U> The type parameter to the Try returned by the mapping function
+     * @param mapper a mapping function to apply to the value, if success
+     * @return a new pipeline with the additional stage
+     * @throws NullPointerException if the mapping function is null
+     * @see Try#flatMap(Function)
+     */
+    public <U> TryPipeline<I, U> flatMap(Function<? super O, Try<U>> mapper) {
+        return append(FLAT_MAP, Objects.requireNonNull(mapper));
+    }
+
+    /**
+     * Returns a pipeline that tests the value with the given predicate after the stages of this
+     * pipeline, failing with a {@link PredicateFailedException} if it does not match.
+     * @param predicate a predicate to apply to the value, if success
+     * @return a new pipeline with the additional stage
+     * @throws NullPointerException if the predicate is null
+     * @see Try#filter(Predicate)
+     */
+    public TryPipeline<I, O> filter(Predicate<? super O> predicate) {
+        return append(FILTER, Objects.requireNonNull(predicate));
+    }
+
+    /**
+     * Returns a pipeline that applies the provided recover function to the throwable after the stages
+     * of this pipeline, if they have failed.
+     * @param recoverFunc a recover function to apply to the throwable, if failure
+     * @return a new pipeline with the additional stage
+     * @throws NullPointerException if the recover function is null
+     * @see Try#recover(Function)
+     */
+    public TryPipeline<I, O> recover(Function<Throwable, ? extends O> recoverFunc) {
+        return append(RECOVER, Objects.requireNonNull(recoverFunc));
+    }
+
+    /**
+     * Runs every stage of this pipeline on the specified input.
+     * @param input the input of the pipeline, may be null
+     * @return a Try describing the output of the pipeline
+     */
+    public Try<O> apply(I input) {
+        Object outcome = run(input);
+        return outcome instanceof Throwable ? Try.failure((Throwable) outcome) : Try.ofValue(output(outcome));
+    }
+
+    /**
+     * Runs every stage of this pipeline on each of the specified inputs, storing the outputs
+     * directly in a {@link TryBatch} without creating a Try per input.
+     * @param inputs the inputs of the pipeline, which must be non-null
+     * @return a batch with the output for each input, in order
+     * @throws NullPointerException if inputs is null
+     */
+    public TryBatch<O> applyAll(I[] inputs) {
+        Objects.requireNonNull(inputs);
+
+        Object[] slots = new Object[inputs.length];
+        BitSet failures = new BitSet();
+        for (int i = 0; i < inputs.length; i++) {
+            Object outcome = run(inputs[i]);
+            if (outcome instanceof Throwable) {
+                slots[i] = outcome;
+                failures.set(i);
+            } else {
+                slots[i] = value(outcome);
+            }
+        }
+        return new TryBatch<>(slots, failures);
+    }
+
+    /**
+     * Runs every stage of this pipeline on each of the specified inputs, storing the outputs
+     * directly in a {@link TryBatch} without creating a Try per input.
+     * @param inputs the inputs of the pipeline, which must be non-null
+     * @return a batch with the output for each input, in iteration order
+     * @throws NullPointerException if inputs is null
+     */
+    public TryBatch<O> applyAll(Iterable<? extends I> inputs) {
+        Objects.requireNonNull(inputs);
+
+        TryBatch.Builder<O> builder = TryBatch.builder(16);
+        for (I input : inputs) {
+            Object outcome = run(input);
+            if (outcome instanceof Throwable) {
+                builder.addFailure((Throwable) outcome);
+            } else {
+                builder.addSuccess(output(outcome));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a non-empty string representation of this pipeline suitable for debugging.
+     * @return a string representation of this instance
+     */
+    @Override
+    public String toString() {
+        return "TryPipeline(stages=" + this.kinds.length + ")";
+    }
+
+    /**
+     * Runs every stage on the specified input and returns the outcome: the throwable, if the
+     * pipeline has failed, otherwise the value, wrapped in a {@link ThrowableValue} if it is itself
+     * a Throwable. Returning a single reference keeps the common outcomes free of allocations.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object run(Object input) {
+        Object value = input;
+        Throwable error = null;
+
+        for (int i = 0; i < this.kinds.length; i++) {
+            int kind = this.kinds[i];
+            // recover stages only run on failures, every other stage only on successes
+            if ((kind == RECOVER) != (error != null)) {
+                continue;
+            }
+
+            try {
+                switch (kind) {
+                case MAP:
+                    value = ((Function) this.functions[i]).apply(value);
+                    break;
+                case FLAT_MAP:
+                    Try<?> next = (Try<?>) ((Function) this.functions[i]).apply(value);
+                    if (next.isFailure()) {
+                        error = next.cause();
+                        value = null;
+                    } else {
+                        value = next.value();
+                    }
+                    break;
+                case FILTER:
+                    if (!((Predicate) this.functions[i]).test(value)) {
+                        error = new PredicateFailedException(value);
+                        value = null;
+                    }
+                    break;
+                default:
+                    value = ((Function) this.functions[i]).apply(error);
+                    error = null;
+                    break;
+                }
+            } catch (Throwable t) {
+                error = StackTracePolicy.capture(t);
+                value = null;
+            }
+        }
+
+        if (error != null) {
+            return error;
+        }
+        return value instanceof Throwable ? new ThrowableValue(value) : value;
+    }
+
+    private <U> TryPipeline<I, U> append(int kind, Object function) {
+        int stages = this.kinds.length;
+        int[] nextKinds = Arrays.copyOf(this.kinds, stages + 1);
+        Object[] nextFunctions = Arrays.copyOf(this.functions, stages + 1);
+        nextKinds[stages] = kind;
+        nextFunctions[stages] = function;
+        return new TryPipeline<>(nextKinds, nextFunctions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private O output(Object outcome) {
+        return (O) value(outcome);
+    }
+
+    private static Object value(Object outcome) {
+        return outcome instanceof ThrowableValue ? ((ThrowableValue) outcome).value : outcome;
+    }
+
+    private TryPipeline(int[] kinds, Object[] functions) {
+        this.kinds = kinds;
+        this.functions = functions;
+    }
+
+    /** A successful output that is itself a Throwable, so it is not mistaken for a failure. */
+    private static final class ThrowableValue {
+
+        final Object value;
+
+        ThrowableValue(Object value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.lpedrosa.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.lpedrosa.util.function.ThrowableBiFunction;
+import com.lpedrosa.util.function.ThrowableFunction;
+import com.lpedrosa.util.function.ThrowableSupplier;
+
+/**
+ * Traversals of streams that stop at the first failure.
+ * <p>
+ * A {@link java.util.stream.Collector} cannot stop early, so collecting
+ * {@code stream.map(x -> Try.of(...))} computes every element, even after one of them has
+ * failed. The traversals of this class pull the elements one at a time, through
+ * {@link Spliterator#tryAdvance(Consumer)}, and stop pulling as soon as the function fails,
+ * so no element after the failure is computed, or even read from the source; an infinite
+ * stream may be traversed, as long as an element fails.
+ * <p>
+ * A parallel stream is split into tasks that run on the {@link ForkJoinPool}. The first task
+ * to fail cancels the others, which stop before their next element; the failure returned is
+ * then the first one found, which, as with {@link Stream#findAny()}, is not necessarily the
+ * first one in encounter order. The values of a success are always in encounter order.
+ * <p>
+ * Exceptions thrown by the function go through the default {@link StackTracePolicy}, as in
+ * {@link Try#of(ThrowableSupplier)}.
+ *
+ * @author lpedrosa
+ */
+public final class TryStreams {
+
+    private TryStreams() {
+    }
+
+    /**
+     * Applies the specified function to each element of the stream, in encounter order, until
+     * it fails, and returns a Try holding the list of results, if it never fails, otherwise the
+     * first failure.
+     * @param <I> the type of the elements of the stream
+     * @param <T> the type of the results of the function
+     * @param stream the stream to traverse, which must be non-null
+     * @param function the function to apply to each element, which must be non-null
+     * @return a Try holding a new, mutable list of the results, in encounter order, or the failure
+     * @throws NullPointerException if stream or function is null
+     */
+    public static <I, T> Try<List<T>> traverse(Stream<? extends I> stream,
+                                               ThrowableFunction<? super I, ? extends T> function) {
+        return reduce(stream, function, ArrayList::new, (list, value) -> {
+            list.add(value);
+            return list;
+        }, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    /**
+     * Applies the specified function to each element of the stream, in encounter order, until
+     * it fails, and returns a Try holding the reduction of the results, if it never fails,
+     * otherwise the first failure. The reduction follows the contract of
+     * {@link Stream#reduce(Object, java.util.function.BiFunction, BinaryOperator)}: identity must
+     * be an identity for the combiner, which must be associative.
+     * @param <I> the type of the elements of the stream
+     * @param <T> the type of the results of the function
+     * @param <R> the type of the reduction
+     * @param stream the stream to traverse, which must be non-null
+     * @param function the function to apply to each element, which must be non-null
+     * @param identity the initial value of the reduction
+     * @param accumulator a function folding a result into the reduction, which must be non-null
+     * @param combiner a function combining two partial reductions, which must be non-null
+     * @return a Try holding the reduction of the results, or the failure
+     * @throws NullPointerException if stream, function, accumulator or combiner is null
+     */
+    public static <I, T, R> Try<R> traverse(Stream<? extends I> stream,
+                                            ThrowableFunction<? super I, ? extends T> function,
+                                            R identity,
+                                            ThrowableBiFunction<R, ? super T, R> accumulator,
+                                            BinaryOperator<R> combiner) {
+        return reduce(stream, function, () -> identity, accumulator, combiner);
+    }
+
+    /**
+     * Runs each computation of the stream, in encounter order, until one fails, and returns a
+     * Try holding the list of their results, if none fails, otherwise the first failure.
+     * @param <T> the type of the results of the computations
+     * @param stream the stream of computations, which must be non-null
+     * @return a Try holding a new, mutable list of the results, in encounter order, or the failure
+     * @throws NullPointerException if stream is null
+     */
+    public static <T> Try<List<T>> sequence(Stream<? extends ThrowableSupplier<? extends T>> stream) {
+        return traverse(stream, ThrowableSupplier::get);
+    }
+
+    private static <I, T, R> Try<R> reduce(Stream<? extends I> stream,
+                                           ThrowableFunction<? super I, ? extends T> function,
+                                           Supplier<R> identity,
+                                           ThrowableBiFunction<R, ? super T, R> accumulator,
+                                           BinaryOperator<R> combiner) {
+        Objects.requireNonNull(stream);
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+
+        boolean parallel = stream.isParallel();
+        Spliterator<? extends I> spliterator = stream.spliterator();
+        Traversal<I, T, R> traversal = new Traversal<>(function, identity, accumulator, combiner);
+        if (!parallel) {
+            R reduced = traversal.run(spliterator);
+            return traversal.result(reduced);
+        }
+
+        long leafSize = Math.max(1, spliterator.estimateSize() / (ForkJoinPool.getCommonPoolParallelism() * 4L));
+        R reduced = new TraversalTask<>(traversal, spliterator, leafSize).invoke();
+        return traversal.result(reduced);
+    }
+
+    /**
+     * The state shared by every part of a traversal, i.e. the functions and the first failure.
+     */
+    private static final class Traversal<I, T, R> {
+
+        private final ThrowableFunction<? super I, ? extends T> function;
+        private final Supplier<R> identity;
+        private final ThrowableBiFunction<R, ? super T, R> accumulator;
+        private final BinaryOperator<R> combiner;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Traversal(ThrowableFunction<? super I, ? extends T> function, Supplier<R> identity,
+                  ThrowableBiFunction<R, ? super T, R> accumulator, BinaryOperator<R> combiner) {
+            this.function = function;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+        }
+
+        boolean failed() {
+            return this.failure.get() != null;
+        }
+
+        /**
+         * Traverses the elements of the spliterator until one fails, or another part of the
+         * traversal has failed, and returns the reduction of the results.
+         */
+        R run(Spliterator<? extends I> spliterator) {
+            Element<I, T> element = new Element<>(this.function);
+            R reduced = this.identity.get();
+            while (!failed() && spliterator.tryAdvance(element)) {
+                if (element.failure != null) {
+                    fail(element.failure);
+                    break;
+                }
+                try {
+                    reduced = this.accumulator.apply(reduced, element.value);
+                } catch (Throwable t) {
+                    fail(t);
+                }
+            }
+            return reduced;
+        }
+
+        R combine(R left, R right) {
+            return this.combiner.apply(left, right);
+        }
+
+        Try<R> result(R reduced) {
+            Throwable first = this.failure.get();
+            return first != null ? Try.failure(first) : Try.ofValue(reduced);
+        }
+
+        private void fail(Throwable t) {
+            this.failure.compareAndSet(null, StackTracePolicy.capture(t));
+        }
+    }
+
+    /**
+     * Applies the function to one element at a time, keeping its result or failure.
+     */
+    private static final class Element<I, T> implements Consumer<I> {
+
+        private final ThrowableFunction<? super I, ? extends T> function;
+        T value;
+        Throwable failure;
+
+        Element(ThrowableFunction<? super I, ? extends T> function) {
+            this.function = function;
+        }
+
+        @Override
+        public void accept(I input) {
+            try {
+                this.value = this.function.apply(input);
+            } catch (Throwable t) {
+                this.failure = t;
+            }
+        }
+    }
+
+    /**
+     * Traverses a part of a parallel stream, splitting it while it is larger than the leaf size.
+     * The left part is forked and the right part is traversed by the current task, and their
+     * reductions are combined in encounter order.
+     */
+    private static final class TraversalTask<I, T, R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Traversal<I, T, R> traversal;
+        private final transient Spliterator<? extends I> spliterator;
+        private final long leafSize;
+
+        TraversalTask(Traversal<I, T, R> traversal, Spliterator<? extends I> spliterator, long leafSize) {
+            this.traversal = traversal;
+            this.spliterator = spliterator;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected R compute() {
+            Spliterator<? extends I> prefix;
+            if (this.spliterator.estimateSize() > this.leafSize
+                    && !this.traversal.failed()
+                    && (prefix = this.spliterator.trySplit()) != null) {
+                TraversalTask<I, T, R> left = new TraversalTask<>(this.traversal, prefix, this.leafSize);
+                left.fork();
+                R right = new TraversalTask<>(this.traversal, this.spliterator, this.leafSize).compute();
+                R leftReduced = left.join();
+                // a failed traversal discards its reduction, so it need not be combined
+                return this.traversal.failed() ? right : this.traversal.combine(leftReduced, right);
+            }
+            return this.traversal.run(this.spliterator);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.lpedrosa.util;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.lpedrosa.util.function.ThrowableSupplier;
+
+/**
+ * Combines many Tries, or computations, into one, reporting every failure rather than only
+ * the first, e.g. to validate all the fields of a payload at once.
+ * <p>
+ * The result is a success holding the values in an array, in the order of the inputs, if all
+ * of them succeed; otherwise it is a failure holding a {@link ValidationException}, which
+ * carries each failure as a suppressed exception. The array is allocated once, at its final
+ * size, and is the only allocation when every input succeeds.
+ * Example:
+ * <pre>
+ * {@code
+ * Try<Object[]> fields = TryValidation.validate(TryParsers.parseInt(age).mapToObj(Integer::valueOf),
+ *                                               parseEmail(email),
+ *                                               TryParsers.parseLocalDate(birthDate));
+ * }
+ * </pre>
+ *
+ * @author lpedrosa
+ */
+public final class TryValidation {
+
+    private TryValidation() {
+    }
+
+    /**
+     * Returns a success holding the values of the specified Tries, if all of them are successes,
+     * otherwise a failure holding a {@link ValidationException} that carries every failure.
+     * @param tries the Tries to validate, which must be non-null and must not contain null
+     * @return a Try holding a new array of the values, in order, or the composite failure
+     * @throws NullPointerException if tries is null, or contains null
+     */
+    public static Try<Object[]> validate(Try<?>... tries) {
+        Objects.requireNonNull(tries);
+
+        Object[] values = new Object[tries.length];
+        ValidationException failure = null;
+        for (int i = 0; i < tries.length; i++) {
+            failure = collect(tries[i], i, values, failure);
+        }
+        return failure == null ? Try.ofValue(values) : Try.failure(failure);
+    }
+
+    /**
+     * Returns a success holding the values of the specified Tries, if all of them are successes,
+     * otherwise a failure holding a {@link ValidationException} that carries every failure.
+     * @param tries the Tries to validate, which must be non-null and must not contain null
+     * @return a Try holding a new array of the values, in order, or the composite failure
+     * @throws NullPointerException if tries is null, or contains null
+     */
+    public static Try<Object[]> validate(List<? extends Try<?>> tries) {
+        Objects.requireNonNull(tries);
+
+        Object[] values = new Object[tries.size()];
+        ValidationException failure = null;
+        int i = 0;
+        for (Try<?> element : tries) {
+            failure = collect(element, i, values, failure);
+            i++;
+        }
+        return failure == null ? Try.ofValue(values) : Try.failure(failure);
+    }
+
+    /**
+     * Runs every one of the specified computations, and returns a success holding their
+     * results, if none of them has thrown, otherwise a failure holding a
+     * {@link ValidationException} that carries every exception thrown. Thrown exceptions go
+     * through the default {@link StackTracePolicy}, as in {@link Try#of(ThrowableSupplier)}.
+     * @param suppliers the computations to run, which must be non-null and must not contain null
+     * @return a Try holding a new array of the results, in order, or the composite failure
+     * @throws NullPointerException if suppliers is null, or contains null
+     */
+    public static Try<Object[]> evaluate(ThrowableSupplier<?>... suppliers) {
+        Objects.requireNonNull(suppliers);
+
+        Object[] values = new Object[suppliers.length];
+        ValidationException failure = null;
+        for (int i = 0; i < suppliers.length; i++) {
+            ThrowableSupplier<?> supplier = Objects.requireNonNull(suppliers[i]);
+            try {
+                values[i] = supplier.get();
+            } catch (Throwable t) {
+                failure = addFailure(failure, values.length, i, StackTracePolicy.capture(t));
+            }
+        }
+        return failure == null ? Try.ofValue(values) : Try.failure(failure);
+    }
+
+    private static ValidationException collect(Try<?> element, int index, Object[] values,
+                                               ValidationException failure) {
+        if (element.isFailure()) {
+            return addFailure(failure, values.length, index, element.cause());
+        }
+        values[index] = element.value();
+        return failure;
+    }
+
+    private static ValidationException addFailure(ValidationException failure, int validationCount,
+                                                  int index, Throwable cause) {
+        ValidationException composite = failure != null ? failure : new ValidationException(validationCount);
+        composite.addFailure(index, cause);
+        return composite;
+    }
+}
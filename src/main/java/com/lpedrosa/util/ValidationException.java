@@ -0,0 +1,74 @@
+package com.lpedrosa.util;
+
+import java.util.Arrays;
+
+/**
+ * The failure returned by {@link TryValidation} when one or more validations fail. It carries
+ * the failure of each validation as a suppressed exception, see {@link #getSuppressed()}, in
+ * the order of the validations, along with their indices.
+ * <p>
+ * Failed validations are an expected outcome, so this exception does not capture a stack
+ * trace, and its message is only built when it is requested.
+ *
+ * @author lpedrosa
+ */
+public class ValidationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int validationCount;
+    private int[] failedIndices;
+    private int failureCount;
+
+    /**
+     * Constructs a new exception for the specified number of validations, with no failures yet.
+     * @param validationCount the number of validations performed
+     */
+    ValidationException(int validationCount) {
+        super(null, null, true, false);
+        this.validationCount = validationCount;
+        this.failedIndices = new int[Math.min(validationCount, 16)];
+    }
+
+    /**
+     * Records the failure of the validation at the specified index.
+     */
+    void addFailure(int index, Throwable cause) {
+        if (this.failureCount == this.failedIndices.length) {
+            this.failedIndices = Arrays.copyOf(this.failedIndices,
+                                               Math.min(this.validationCount, this.failureCount * 2));
+        }
+        this.failedIndices[this.failureCount++] = index;
+        addSuppressed(cause);
+    }
+
+    /**
+     * Returns the indices of the failed validations, in ascending order; the failure of the
+     * validation at {@code getFailedIndices()[i]} is {@code getSuppressed()[i]}.
+     * @return a new array holding the indices of the failed validations
+     */
+    public int[] getFailedIndices() {
+        return Arrays.copyOf(this.failedIndices, this.failureCount);
+    }
+
+    /**
+     * Returns the number of failed validations.
+     * @return the number of failures
+     */
+    public int getFailureCount() {
+        return this.failureCount;
+    }
+
+    /**
+     * Returns the number of validations performed.
+     * @return the number of validations
+     */
+    public int getValidationCount() {
+        return this.validationCount;
+    }
+
+    @Override
+    public String getMessage() {
+        return this.failureCount + " of " + this.validationCount + " validations failed";
+    }
+}
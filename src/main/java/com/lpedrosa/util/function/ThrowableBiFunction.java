@@ -0,0 +1,25 @@
+package com.lpedrosa.util.function;
+
+/**
+ * Represents a function that accepts two arguments, produces a result and might throw a Throwable.
+ * <p>
+ * This is the two-arity specialization of {@link ThrowableFunction}.
+ * <p>
+ * This is a functional interface whose functional method is {@link #apply(Object, Object)}.
+ *
+ * @author lpedrosa
+ * @param <T> the type of the first argument to the function
+ * @param <U> the type of the second argument to the function
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface ThrowableBiFunction<T, U, R> {
+    /**
+     * Applies this function to the given arguments.
+     * @param t the first function argument
+     * @param u the second function argument
+     * @return the function result
+     * @throws Throwable if it failed to compute a result
+     */
+    R apply(T t, U u) throws Throwable;
+}
@@ -0,0 +1,21 @@
+package com.lpedrosa.util.function;
+
+/**
+ * Represents an operation that accepts a single input argument, returns no result and might
+ * throw a Throwable. Unlike most other functional interfaces, it is expected to operate via
+ * side-effects.
+ * <p>
+ * This is a functional interface whose functional method is {@link #accept(Object)}.
+ *
+ * @author lpedrosa
+ * @param <T> the type of the input to the operation
+ */
+@FunctionalInterface
+public interface ThrowableConsumer<T> {
+    /**
+     * Performs this operation on the given argument.
+     * @param t the input argument
+     * @throws Throwable if the operation failed
+     */
+    void accept(T t) throws Throwable;
+}
@@ -0,0 +1,24 @@
+package com.lpedrosa.util.function;
+
+/**
+ * Represents a function that accepts one argument, produces a result and might throw a Throwable.
+ * <p>
+ * Similar to Function, but its functional method may throw checked exceptions, so it can be
+ * passed to methods such as {@code Try.mapTry} without wrapping it in an additional Try.
+ * <p>
+ * This is a functional interface whose functional method is {@link #apply(Object)}.
+ *
+ * @author lpedrosa
+ * @param <T> the type of the input to the function
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface ThrowableFunction<T, R> {
+    /**
+     * Applies this function to the given argument.
+     * @param t the function argument
+     * @return the function result
+     * @throws Throwable if it failed to compute a result
+     */
+    R apply(T t) throws Throwable;
+}
@@ -0,0 +1,29 @@
+package com.lpedrosa.util.function;
+
+/**
+ * Represents a function that accepts four arguments, produces a result and might throw a Throwable.
+ * <p>
+ * This is the 4-arity specialization of {@link ThrowableFunction}.
+ * <p>
+ * This is a functional interface whose functional method is {@link #apply(Object, Object, Object, Object)}.
+ *
+ * @author lpedrosa
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <R> the type of the result of the function
+ */
+@FunctionalInterface
+public interface ThrowableFunction4<T1, T2, T3, T4, R> {
+    /**
+     * Applies this function to the given arguments.
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @param t4 the fourth function argument
+     * @return the function result
+     * @throws Throwable if it failed to compute a result
+     */
+    R apply(T1 t1, T2 t2, T3 t3, T4 t4) throws Throwable;
+}
@@ -0,0 +1,22 @@
+package com.lpedrosa.util.function;
+
+/**
+ * Represent a supplier of {@code int}-valued results that might throw a Throwable.
+ * This is the {@code int}-producing primitive specialization of {@link ThrowableSupplier}.
+ * <p>
+ * There is no requirement that a distinct result be returned each time the supplier is invoked.
+ * <p>
+ * This is a functional interface whose functional method is {@link #getAsInt()}.
+ *
+ * @author lpedrosa
+ * @see ThrowableSupplier
+ */
+@FunctionalInterface
+public interface ThrowableIntSupplier {
+    /**
+     * Gets a result.
+     * @return a result
+     * @throws Throwable if it failed to get a result
+     */
+    int getAsInt() throws Throwable;
+}
@@ -0,0 +1,20 @@
+package com.lpedrosa.util.function;
+
+/**
+ * Represents a predicate (boolean-valued function) of one argument that might throw a Throwable.
+ * <p>
+ * This is a functional interface whose functional method is {@link #test(Object)}.
+ *
+ * @author lpedrosa
+ * @param <T> the type of the input to the predicate
+ */
+@FunctionalInterface
+public interface ThrowablePredicate<T> {
+    /**
+     * Evaluates this predicate on the given argument.
+     * @param t the input argument
+     * @return true if the input argument matches the predicate, otherwise false
+     * @throws Throwable if it failed to evaluate the predicate
+     */
+    boolean test(T t) throws Throwable;
+}
@@ -0,0 +1,19 @@
+package com.lpedrosa.util.function;
+
+/**
+ * Represents an operation that takes no arguments, returns no result and might throw a Throwable.
+ * <p>
+ * Similar to Runnable, but its functional method may throw checked exceptions.
+ * <p>
+ * This is a functional interface whose functional method is {@link #run()}.
+ *
+ * @author lpedrosa
+ */
+@FunctionalInterface
+public interface ThrowableRunnable {
+    /**
+     * Performs this operation.
+     * @throws Throwable if the operation failed
+     */
+    void run() throws Throwable;
+}
@@ -0,0 +1,146 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class FailureBudgetTests {
+
+    private static final long ONE_FAILURE = FailureBudget.THROWABLE_BYTES + FailureBudget.TRACE_BYTES;
+
+    @After
+    public void restoreDefault() {
+        StackTracePolicy.setDefault(StackTracePolicy.full());
+    }
+
+    @Test
+    public void shouldKeepFailuresWithinBudget() {
+        // given
+        FailureBudget budget = FailureBudget.of(2 * ONE_FAILURE);
+        IllegalStateException error = new IllegalStateException("boom");
+
+        // when
+        Throwable kept = budget.apply(error);
+
+        // then
+        assertSame(error, kept);
+        assertEquals(ONE_FAILURE, budget.getRetainedBytes());
+        assertEquals(0, budget.getShedCount());
+    }
+
+    @Test
+    public void shouldChargeSameFailureOnlyOnce() {
+        // given
+        FailureBudget budget = FailureBudget.of(ONE_FAILURE);
+        IllegalStateException error = new IllegalStateException("rethrown");
+        budget.apply(error);
+
+        // when
+        Throwable again = budget.apply(error);
+
+        // then
+        assertSame(error, again);
+        assertEquals(ONE_FAILURE, budget.getRetainedBytes());
+        assertEquals(0, budget.getShedCount());
+    }
+
+    @Test
+    public void shouldCompactFailuresInPlaceOnceBudgetIsExhausted() {
+        // given
+        FailureBudget budget = FailureBudget.of(ONE_FAILURE);
+        StackTracePolicy.setDefault(budget);
+        Try<String> first = Try.of(() -> { throw new IllegalStateException("first"); });
+        IOException thrown = new IOException("second", new RuntimeException());
+
+        // when
+        Try<String> second = Try.of(() -> { throw thrown; });
+
+        // then
+        assertTrue(first.getCause().getStackTrace().length > 0);
+        assertSame(thrown, second.getCause());
+        assertEquals(0, thrown.getStackTrace().length);
+        assertEquals(0, thrown.getCause().getStackTrace().length);
+        assertEquals("recovered", second.recoverMatching(FailureMatcher.<String>builder()
+                                                                       .on(IOException.class, e -> "recovered")
+                                                                       .build())
+                                        .orElse(null));
+        assertEquals(1, budget.getShedCount());
+        assertEquals(2 * FailureBudget.TRACE_BYTES, budget.getShedBytes());
+    }
+
+    @Test
+    public void shouldNeitherChargeNorShedCompactFailures() {
+        // given
+        FailureBudget budget = FailureBudget.of(0);
+        StacklessException stackless = new StacklessException("expected");
+
+        // when
+        Throwable kept = budget.apply(stackless);
+
+        // then
+        assertSame(stackless, kept);
+        assertEquals(0, budget.getRetainedBytes());
+        assertEquals(0, budget.getShedCount());
+    }
+
+    @Test
+    public void shouldReturnChargeOnceFailureIsCollected() throws InterruptedException {
+        // given
+        FailureBudget budget = FailureBudget.of(ONE_FAILURE);
+        budget.apply(new IllegalStateException());
+
+        // when
+        for (int i = 0; i < 20 && budget.getRetainedBytes() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // then
+        assertEquals(0, budget.getRetainedBytes());
+        assertTrue(budget.apply(new IllegalStateException()) instanceof IllegalStateException);
+    }
+
+    @Test
+    public void shouldBoundRetainedHeapDuringFailureStorm() {
+        // given
+        assumeTrue("the JVM's copy of stack traces cannot be released", StackTracePolicy.releasesBacktrace());
+        int failures = 20_000;
+        StackTracePolicy.setDefault(FailureBudget.of(1024 * 1024));
+
+        // when
+        long before = usedHeap();
+        List<Try<Integer>> retained = new ArrayList<>(failures);
+        for (int i = 0; i < failures; i++) {
+            retained.add(Try.of(() -> throwAt(100)));
+        }
+        long after = usedHeap();
+
+        // then
+        assertEquals(failures, retained.size());
+        // kept as they are, the failures would retain more than 50 MB
+        assertTrue("retained " + (after - before) + " bytes", after - before < 8 * 1024 * 1024);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Integer throwAt(int depth) {
+        if (depth == 0) {
+            throw new IllegalStateException("deep failure");
+        }
+        return throwAt(depth - 1);
+    }
+}
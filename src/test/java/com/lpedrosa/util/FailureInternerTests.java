@@ -0,0 +1,118 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class FailureInternerTests {
+
+    @After
+    public void restoreDefault() {
+        StackTracePolicy.setDefault(StackTracePolicy.full());
+    }
+
+    @Test
+    public void shouldShareOneInstanceForIdenticalFailures() {
+        // given
+        FailureInterner interner = FailureInterner.of(64);
+        StackTracePolicy.setDefault(interner);
+
+        // when
+        List<Try<String>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(Try.of(FailureInternerTests::callDependency));
+        }
+
+        // then
+        Throwable canonical = results.get(0).getCause();
+        for (Try<String> result : results) {
+            assertSame(canonical, result.getCause());
+            assertEquals(results.get(0), result);
+        }
+        assertEquals(3, canonical.getStackTrace().length);
+        assertEquals("callDependency", canonical.getStackTrace()[0].getMethodName());
+        assertEquals(99, interner.getHitCount());
+        assertEquals(1, interner.getMissCount());
+    }
+
+    @Test
+    public void shouldKeepFailuresWithDifferentMessagesApart() {
+        // given
+        FailureInterner interner = FailureInterner.of(64, 1);
+
+        // when
+        Throwable first = interner.apply(failureWith("timeout"));
+        Throwable second = interner.apply(failureWith("refused"));
+        Throwable third = interner.apply(failureWith("timeout"));
+
+        // then
+        assertNotSame(first, second);
+        assertSame(first, third);
+        assertEquals("refused", second.getMessage());
+    }
+
+    @Test
+    public void shouldKeepWrappersOfDifferentCausesApart() {
+        // given
+        FailureInterner interner = FailureInterner.of(64, 0);
+
+        // when
+        Throwable timeout = interner.apply(new RuntimeException("rpc failed", new SocketTimeoutException()));
+        Throwable refused = interner.apply(new RuntimeException("rpc failed", new ConnectException()));
+        Throwable again = interner.apply(new RuntimeException("rpc failed", new ConnectException()));
+
+        // then
+        assertTrue(timeout.getCause() instanceof SocketTimeoutException);
+        assertTrue(refused.getCause() instanceof ConnectException);
+        assertSame(refused, again);
+    }
+
+    @Test
+    public void shouldKeepFailuresOfDifferentTypesApart() {
+        // given
+        FailureInterner interner = FailureInterner.of(64, 0);
+
+        // when
+        Throwable state = interner.apply(new IllegalStateException("same"));
+        Throwable argument = interner.apply(new IllegalArgumentException("same"));
+
+        // then
+        assertTrue(state instanceof IllegalStateException);
+        assertTrue(argument instanceof IllegalArgumentException);
+        assertEquals(0, state.getStackTrace().length);
+    }
+
+    @Test
+    public void shouldStayBoundedWithManyDistinctFailures() {
+        // given
+        FailureInterner interner = FailureInterner.of(10, 0);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            interner.apply(new IllegalStateException("failure " + i));
+        }
+        Throwable recent = interner.apply(new IllegalStateException("failure 9999"));
+
+        // then
+        assertEquals(16, interner.getCapacity());
+        assertEquals(10_000, interner.getMissCount());
+        assertEquals("failure 9999", recent.getMessage());
+    }
+
+    private static IllegalStateException failureWith(String message) {
+        return new IllegalStateException(message);
+    }
+
+    private static String callDependency() {
+        throw new IllegalStateException("dependency unavailable");
+    }
+}
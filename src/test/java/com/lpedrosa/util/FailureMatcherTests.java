@@ -0,0 +1,112 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+public class FailureMatcherTests {
+
+    private static final FailureMatcher<String> DESCRIBE = FailureMatcher.<String>builder()
+            .on(IOException.class, e -> "io")
+            .on(FileNotFoundException.class, e -> "not found: " + e.getMessage())
+            .on(IllegalArgumentException.class, e -> "bad argument")
+            .build();
+
+    @Test
+    public void shouldRecoverWithHandlerOfMostSpecificType() {
+        // when
+        Try<String> notFound = Try.<String>failure(new FileNotFoundException("a.txt")).recoverMatching(DESCRIBE);
+        Try<String> io = Try.<String>failure(new IOException()).recoverMatching(DESCRIBE);
+        Try<String> number = Try.<String>failure(new NumberFormatException()).recoverMatching(DESCRIBE);
+
+        // then
+        assertEquals("not found: a.txt", notFound.getOrNull());
+        assertEquals("io", io.getOrNull());
+        assertEquals("bad argument", number.getOrNull());
+    }
+
+    @Test
+    public void shouldReturnSameInstanceWhenNoHandlerMatches() {
+        // given
+        Try<String> failure = Try.failure(new IllegalStateException());
+        Try<String> success = Try.success("value");
+
+        // then
+        assertSame(failure, failure.recoverMatching(DESCRIBE));
+        assertSame(success, success.recoverMatching(DESCRIBE));
+        assertSame(failure, failure.mapFailure(FailureMatcher.<Throwable>builder().build()));
+    }
+
+    @Test
+    public void shouldOnlyWalkCausesWhenAsked() {
+        // given
+        FailureMatcher<String> withCauses = FailureMatcher.<String>builder()
+                .on(IOException.class, e -> "io: " + e.getMessage())
+                .matchingCauses()
+                .build();
+        Throwable wrapped = new IllegalStateException(new RuntimeException(new IOException("disk")));
+
+        // then
+        assertFalse(DESCRIBE.matches(wrapped));
+        assertTrue(withCauses.matches(wrapped));
+        assertEquals("io: disk", Try.<String>failure(wrapped).recoverMatching(withCauses).getOrNull());
+    }
+
+    @Test
+    public void shouldTranslateFailures() {
+        // given
+        FailureMatcher<RuntimeException> unchecked = FailureMatcher.<RuntimeException>builder()
+                .on(IOException.class, UncheckedIOException::new)
+                .on(IllegalStateException.class, e -> null)
+                .build();
+        IOException io = new IOException("disk");
+
+        // when
+        Try<String> translated = Try.<String>failure(io).mapFailure(unchecked);
+        Try<String> nullTranslation = Try.<String>failure(new IllegalStateException()).mapFailure(unchecked);
+
+        // then
+        assertTrue(translated.getCause() instanceof UncheckedIOException);
+        assertSame(io, translated.getCause().getCause());
+        assertTrue(nullTranslation.getCause() instanceof NullPointerException);
+    }
+
+    @Test
+    public void shouldCaptureExceptionThrownByHandler() {
+        // given
+        FailureMatcher<String> throwing = FailureMatcher.<String>builder()
+                .on(NoSuchElementException.class, e -> { throw new IllegalStateException("handler failed"); })
+                .build();
+
+        // when
+        Try<String> recovered = Try.<String>failure(new NoSuchElementException()).recoverMatching(throwing);
+
+        // then
+        assertEquals("handler failed", recovered.getCause().getMessage());
+    }
+
+    @Test
+    public void shouldRejectDuplicateHandler() {
+        // given
+        FailureMatcher.Builder<String> builder = FailureMatcher.<String>builder()
+                .on(IOException.class, e -> "first");
+
+        // when
+        try {
+            builder.on(IOException.class, e -> "second");
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // then
+            assertEquals("A handler is already registered for java.io.IOException", expected.getMessage());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class LazyTryTests {
+
+    private static final int ITERATIONS = 100_000;
+
+    private static final int STAGES = 7;
+
+    /** The size of one LazyTry with 8-byte aligned objects and uncompressed references, the largest layout. */
+    private static final long LAZY_TRY_BYTES = 56;
+
+    @Test
+    public void shouldNotEvaluateUntilRequested() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        LazyTry<Integer> lazy = LazyTry.of(() -> calls.incrementAndGet())
+                                       .map(i -> i + 1)
+                                       .filter(i -> i > 0);
+
+        // then
+        assertFalse(lazy.isEvaluated());
+        assertEquals(0, calls.get());
+        assertEquals(2, lazy.orElse(-1).intValue());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void shouldEvaluateOnlyOnce() throws Throwable {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        LazyTry<Integer> lazy = LazyTry.of(() -> calls.incrementAndGet());
+
+        // when
+        lazy.get();
+        lazy.get();
+        lazy.isFailure();
+
+        // then
+        assertTrue(lazy.isEvaluated());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void shouldEvaluateOnceWhenRequestedConcurrently() throws InterruptedException {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        LazyTry<Integer> lazy = LazyTry.of(() -> calls.incrementAndGet());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                lazy.toTry();
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals(1, calls.get());
+        assertEquals(Try.success(1), lazy.toTry());
+    }
+
+    @Test
+    public void shouldReuseEvaluatedSource() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        LazyTry<Integer> source = LazyTry.of(() -> calls.incrementAndGet());
+        source.toTry();
+
+        // when
+        LazyTry<Integer> derived = source.map(i -> i * 10);
+
+        // then
+        assertEquals(Try.success(10), derived.toTry());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void shouldEvaluateSharedSourceOnceForDerivedPipelines() throws Throwable {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        LazyTry<Integer> source = LazyTry.of(() -> calls.incrementAndGet());
+        LazyTry<Integer> plusOne = source.map(i -> i + 1);
+        LazyTry<Integer> plusTwo = source.map(i -> i + 2);
+
+        // when
+        int first = plusOne.get();
+        int second = plusTwo.get();
+        int shared = source.get();
+
+        // then
+        assertEquals(1, calls.get());
+        assertEquals(2, first);
+        assertEquals(3, second);
+        assertEquals(1, shared);
+    }
+
+    @Test
+    public void shouldShortCircuitAndRecover() {
+        // given
+        AtomicInteger mapperCalls = new AtomicInteger();
+
+        // when
+        LazyTry<Integer> lazy = LazyTry.of(() -> Integer.parseInt("a"))
+                                       .map(i -> mapperCalls.incrementAndGet())
+                                       .recover(t -> t instanceof NumberFormatException ? 0 : -1)
+                                       .flatMap(i -> LazyTry.evaluated(Try.success(i + 5)));
+
+        // then
+        assertEquals(Try.success(5), lazy.toTry());
+        assertEquals(0, mapperCalls.get());
+    }
+
+    @Test
+    public void shouldPassFailureThroughStagesWithoutCapturingItAgain() {
+        // given
+        AtomicInteger captures = new AtomicInteger();
+        IllegalStateException error = new IllegalStateException("I failed");
+        StackTracePolicy.setDefault(new StackTracePolicy() {
+            @Override
+            public Throwable apply(Throwable failure) {
+                captures.incrementAndGet();
+                return failure;
+            }
+        });
+
+        // when
+        Try<Integer> result;
+        try {
+            result = LazyTry.<Integer>of(() -> { throw error; })
+                            .map(i -> i + 1)
+                            .filter(i -> i > 0)
+                            .map(i -> i + 1)
+                            .toTry();
+        } finally {
+            StackTracePolicy.setDefault(StackTracePolicy.full());
+        }
+
+        // then
+        assertSame(error, result.getCause());
+        assertEquals(1, captures.get());
+    }
+
+    @Test
+    public void shouldNotCreateTryPerStage() {
+        // given
+        ThreadAllocation allocation = new ThreadAllocation();
+        runChain(ITERATIONS);
+
+        // when
+        allocation.start();
+        int sink = runChain(ITERATIONS);
+        long allocated = allocation.stop();
+
+        // then
+        assertEquals(ITERATIONS * 5, sink);
+        // the LazyTry of each stage, and nothing else
+        assertTrue("chain allocated " + allocated + " bytes", allocated < ITERATIONS * STAGES * LAZY_TRY_BYTES);
+    }
+
+    private static int runChain(int iterations) {
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += LazyTry.of(() -> 1)
+                           .map(v -> v + 1)
+                           .map(v -> v + 1)
+                           .filter(v -> v > 0)
+                           .recover(t -> -1)
+                           .map(v -> v + 1)
+                           .map(v -> v + 1)
+                           .orElse(0);
+        }
+        return sink;
+    }
+}
@@ -0,0 +1,109 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PrimitiveTryTests {
+
+    @Test
+    public void shouldParseAndMapWithoutBoxing() throws Throwable {
+        // given
+        IntTry parsed = IntTry.of(() -> Integer.parseInt("40"))
+                              .map(i -> i + 2);
+
+        // when
+        int result = parsed.getAsInt();
+
+        // then
+        assertEquals(42, result);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void shouldShortCircuitWhenExceptionIsThrown() throws Throwable {
+        // given
+        IntTry parsed = IntTry.of(() -> Integer.parseInt("a"))
+                              .map(i -> i + 2);
+
+        // when
+        parsed.getAsInt();
+    }
+
+    @Test
+    public void shouldReturnSameInstanceOnFailure() {
+        // given
+        IntTry failure = IntTry.failure(new IllegalStateException("I failed"));
+
+        // then
+        assertSame(failure, failure.map(i -> i + 1));
+        assertSame(failure, failure.filter(i -> true));
+        assertSame(failure, failure.flatMap(IntTry::success));
+        assertEquals(-1, failure.orElse(-1));
+    }
+
+    @Test
+    public void shouldRecoverFromFailure() {
+        // given
+        IntTry recovered = IntTry.of(() -> Integer.parseInt("a"))
+                                 .recover(t -> t instanceof NumberFormatException ? 0 : -1);
+
+        // then
+        assertEquals(IntTry.success(0), recovered);
+    }
+
+    @Test
+    public void shouldFailWhenFilterDoesNotHold() {
+        // given
+        LongTry filtered = LongTry.success(3L)
+                                  .filter(l -> l > 10L);
+
+        // then
+        assertTrue(filtered.isFailure());
+        assertEquals(7L, filtered.orElse(7L));
+    }
+
+    @Test
+    public void shouldBridgeBetweenSpecializations() throws Throwable {
+        // given
+        Try<String> input = Try.success("1.5");
+
+        // when
+        DoubleTry parsed = input.mapToDouble(Double::parseDouble);
+        LongTry rounded = parsed.mapToLong(Math::round);
+        IntTry narrowed = rounded.mapToInt(Math::toIntExact);
+        Try<String> formatted = narrowed.mapToObj(Integer::toString);
+
+        // then
+        assertEquals(1.5, parsed.getAsDouble(), 0.0);
+        assertEquals(2L, rounded.getAsLong());
+        assertEquals(2, narrowed.getAsInt());
+        assertEquals(Try.success("2"), formatted);
+    }
+
+    @Test
+    public void shouldCarryFailureAcrossBridges() {
+        // given
+        Throwable error = new IllegalStateException("I failed");
+
+        // when
+        Try<Integer> bridged = Try.<String>failure(error)
+                                  .mapToLong(Long::parseLong)
+                                  .mapToDouble(l -> l)
+                                  .mapToObj(d -> (int) d);
+
+        // then
+        assertEquals(Try.failure(error), bridged);
+    }
+
+    @Test
+    public void shouldCompareDoublesLikeBoxedDoubles() {
+        assertEquals(DoubleTry.success(Double.NaN), DoubleTry.success(Double.NaN));
+        assertEquals(DoubleTry.success(Double.NaN).hashCode(), DoubleTry.success(Double.NaN).hashCode());
+        assertNotEquals(DoubleTry.success(0.0), DoubleTry.success(-0.0));
+        assertFalse(DoubleTry.success(1.0).equals(LongTry.success(1L)));
+    }
+}
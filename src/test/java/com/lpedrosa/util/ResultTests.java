@@ -0,0 +1,126 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public class ResultTests {
+
+    private enum ParseError { EMPTY, NOT_A_NUMBER }
+
+    private static final int ITERATIONS = 100_000;
+
+    /** The size of one Result with 8-byte aligned objects and uncompressed references, the largest layout. */
+    private static final long ONE_RESULT_BYTES = 32;
+
+    @Test
+    public void shouldChainOkValues() {
+        // given
+        Result<String, ParseError> input = Result.ok("42");
+
+        // when
+        Result<Integer, ParseError> parsed = input.flatMap(ResultTests::parse)
+                                                  .map(i -> i + 1);
+
+        // then
+        assertFalse(parsed.isError());
+        assertEquals(Integer.valueOf(43), parsed.getOrNull());
+        assertNull(parsed.getError());
+    }
+
+    @Test
+    public void shouldPropagateErrorWithoutCallingFunctions() {
+        // given
+        Result<Integer, ParseError> error = parse("");
+
+        // when
+        Result<String, ParseError> mapped = error.map(i -> { fail("mapper should not run"); return ""; })
+                                                 .flatMap(i -> { fail("mapper should not run"); return null; });
+
+        // then
+        assertSame(error, mapped);
+        assertSame(ParseError.EMPTY, mapped.getError());
+        assertEquals("none", mapped.orElse("none"));
+    }
+
+    @Test
+    public void shouldRecoverAndMapErrors() {
+        // given
+        Result<Integer, ParseError> error = parse("abc");
+
+        // then
+        assertEquals(Integer.valueOf(0), error.recover(e -> 0).getOrNull());
+        assertEquals(Integer.valueOf(-1), error.recoverWith(e -> Result.ok(-1)).getOrNull());
+        assertEquals("NOT_A_NUMBER", error.mapError(Enum::name).getError());
+        assertEquals(Integer.valueOf(12), error.orElseGet(e -> e.name().length()));
+        assertEquals("error NOT_A_NUMBER", error.fold(i -> "ok " + i, e -> "error " + e));
+    }
+
+    @Test
+    public void shouldConvertFromAndToTry() {
+        // given
+        IllegalStateException cause = new IllegalStateException("boom");
+
+        // when
+        Result<String, Throwable> fromFailure = Result.fromTry(Try.failure(cause));
+        Result<String, ParseError> fromSuccess = Result.fromTry(Try.success("ok"), t -> ParseError.EMPTY);
+
+        // then
+        assertSame(cause, fromFailure.getError());
+        assertEquals("ok", fromSuccess.getOrNull());
+        assertEquals(Try.success("ok"), fromSuccess.toTry(e -> new IllegalArgumentException(e.name())));
+        assertSame(cause, fromFailure.toTry(e -> e).getCause());
+        assertEquals("EMPTY", parse("").toTry(e -> new IllegalArgumentException(e.name())).getCause().getMessage());
+    }
+
+    @Test
+    public void shouldBeEqualByStateAndValue() {
+        // then
+        assertEquals(Result.ok(1), Result.ok(1));
+        assertEquals(Result.error(ParseError.EMPTY), parse(""));
+        assertFalse(Result.ok(ParseError.EMPTY).equals(Result.error(ParseError.EMPTY)));
+        assertEquals("Result.error(EMPTY)", parse("").toString());
+    }
+
+    @Test
+    public void shouldAllocateAtMostOneSmallObjectPerError() {
+        // given
+        ThreadAllocation allocation = new ThreadAllocation();
+        runErrorPath(ITERATIONS);
+
+        // when
+        allocation.start();
+        int sink = runErrorPath(ITERATIONS);
+        long allocated = allocation.stop();
+
+        // then
+        assertEquals(-ITERATIONS, sink);
+        assertTrue("error path allocated " + allocated + " bytes", allocated < ITERATIONS * ONE_RESULT_BYTES);
+    }
+
+    private static int runErrorPath(int iterations) {
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += parse("x").map(n -> n * 2)
+                              .orElse(-1);
+        }
+        return sink;
+    }
+
+    private static Result<Integer, ParseError> parse(String s) {
+        if (s.isEmpty()) {
+            return Result.error(ParseError.EMPTY);
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!Character.isDigit(s.charAt(i))) {
+                return Result.error(ParseError.NOT_A_NUMBER);
+            }
+        }
+        return Result.ok(Integer.parseInt(s));
+    }
+}
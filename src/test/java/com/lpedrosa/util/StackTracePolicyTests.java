@@ -0,0 +1,188 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class StackTracePolicyTests {
+
+    private static final int DEPTH = 100;
+    private static final int RETAINED_FAILURES = 2_000;
+
+    @After
+    public void restoreDefault() {
+        StackTracePolicy.setDefault(StackTracePolicy.full());
+    }
+
+    @Test
+    public void shouldKeepFullStackTraceByDefault() {
+        // when
+        Throwable cause = Try.of(() -> throwAt(DEPTH)).getCause();
+
+        // then
+        assertSame(StackTracePolicy.full(), StackTracePolicy.getDefault());
+        assertTrue(cause.getStackTrace().length > DEPTH);
+    }
+
+    @Test
+    public void shouldTruncateToTopFrames() {
+        // when
+        Throwable cause = Try.of(() -> throwAt(DEPTH), StackTracePolicy.truncate(3))
+                             .getCause();
+
+        // then
+        StackTraceElement[] frames = cause.getStackTrace();
+        assertEquals(3, frames.length);
+        for (StackTraceElement frame : frames) {
+            assertEquals("throwAt", frame.getMethodName());
+        }
+    }
+
+    @Test
+    public void shouldDropStackTraceOfFailureAndCauses() {
+        // given
+        StackTracePolicy.setDefault(StackTracePolicy.drop());
+
+        // when
+        Throwable cause = Try.success("value")
+                             .map(v -> { throw new IllegalStateException(new IllegalArgumentException(v)); })
+                             .getCause();
+
+        // then
+        assertEquals(0, cause.getStackTrace().length);
+        assertEquals(0, cause.getCause().getStackTrace().length);
+        assertEquals("value", cause.getCause().getMessage());
+    }
+
+    @Test
+    public void shouldApplyDefaultPolicyInTypesBuiltOnTry() {
+        // given
+        StackTracePolicy.setDefault(StackTracePolicy.drop());
+        Integer[] inputs = { DEPTH };
+
+        // when
+        Throwable batched = TryBatch.of(inputs, StackTracePolicyTests::throwAt).get(0).getCause();
+        Throwable piped = TryPipeline.<Integer>start().map(StackTracePolicyTests::throwAt).apply(DEPTH).getCause();
+        Throwable trampolined = TrampolinedTry.success(DEPTH).map(StackTracePolicyTests::throwAt).run().getCause();
+        Throwable buffered;
+        try (LongTryBuffer buffer = LongTryBuffer.allocate(1)) {
+            buffer.compute(0, () -> throwAt(DEPTH));
+            buffered = buffer.get(0).mapToObj(Long::valueOf).getCause();
+        }
+
+        // then
+        assertEquals(0, batched.getStackTrace().length);
+        assertEquals(0, piped.getStackTrace().length);
+        assertEquals(0, trampolined.getStackTrace().length);
+        assertEquals(0, buffered.getStackTrace().length);
+    }
+
+    @Test
+    public void shouldApplyPolicyToExceptionThrownWhileRecovering() {
+        // when
+        Throwable cause = Try.failure(new IllegalStateException())
+                             .recover(t -> { throw new IllegalArgumentException(); }, StackTracePolicy.drop())
+                             .getCause();
+
+        // then
+        assertTrue(cause instanceof IllegalArgumentException);
+        assertEquals(0, cause.getStackTrace().length);
+    }
+
+    @Test
+    public void shouldApplyDefaultPolicyToPrimitiveTries() {
+        // given
+        StackTracePolicy.setDefault(StackTracePolicy.drop());
+
+        // when
+        Throwable cause = IntTry.of(() -> Integer.parseInt("x")).mapToObj(i -> i).getCause();
+
+        // then
+        assertEquals(0, cause.getStackTrace().length);
+    }
+
+    @Test
+    public void shouldNotApplyPolicyToExplicitFailures() {
+        // given
+        StackTracePolicy.setDefault(StackTracePolicy.drop());
+        IllegalStateException error = new IllegalStateException();
+
+        // when
+        Try<String> failure = Try.failure(error);
+
+        // then
+        assertTrue(failure.getCause().getStackTrace().length > 0);
+    }
+
+    @Test
+    public void shouldSampleStackTraces() {
+        // given
+        StackTracePolicy sample = StackTracePolicy.sample(4);
+        int kept = 0;
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            if (sample.apply(new IllegalStateException()).getStackTrace().length > 0) {
+                kept++;
+            }
+        }
+
+        // then
+        assertTrue("kept " + kept, kept > 150 && kept < 350);
+        assertSame(StackTracePolicy.full(), StackTracePolicy.sample(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNegativeFrameCount() {
+        // when
+        StackTracePolicy.truncate(-1);
+    }
+
+    @Test
+    public void shouldRetainLessMemoryWhenTruncated() {
+        // when
+        long full = retainedBytes(StackTracePolicy.full());
+        long truncated = retainedBytes(StackTracePolicy.truncate(8));
+
+        // then
+        assertTrue("full " + full + " bytes, truncated " + truncated + " bytes", truncated < full / 2);
+    }
+
+    /**
+     * Returns the heap retained by failures thrown deep in the stack, once their stack traces
+     * have been read, as logging them would.
+     */
+    private static long retainedBytes(StackTracePolicy policy) {
+        long before = usedHeap();
+        List<Try<Integer>> failures = new ArrayList<>(RETAINED_FAILURES);
+        for (int i = 0; i < RETAINED_FAILURES; i++) {
+            Try<Integer> failure = Try.of(() -> throwAt(DEPTH), policy);
+            failure.getCause().getStackTrace();
+            failures.add(failure);
+        }
+        long retained = usedHeap() - before;
+        assertEquals(RETAINED_FAILURES, failures.size());
+        return retained;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Integer throwAt(int depth) {
+        if (depth == 0) {
+            throw new IllegalStateException("deep failure");
+        }
+        return throwAt(depth - 1);
+    }
+}
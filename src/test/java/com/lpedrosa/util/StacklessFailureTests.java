@@ -0,0 +1,126 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class StacklessFailureTests {
+
+    @Test
+    public void shouldFailFilterWithStacklessNoSuchElementException() {
+        // given
+        Try<String> filtered = Try.success("abc")
+                                  .filter(String::isEmpty);
+
+        // when
+        Throwable cause = causeOf(filtered);
+
+        // then
+        assertTrue(cause instanceof NoSuchElementException);
+        assertEquals(0, cause.getStackTrace().length);
+        assertEquals("Predicate does not hold for abc", cause.getMessage());
+        assertSame("abc", ((PredicateFailedException) cause).getRejectedValue());
+    }
+
+    @Test
+    public void shouldNotBuildFilterMessageUntilRequested() {
+        // given
+        AtomicInteger toStringCalls = new AtomicInteger();
+        Object payload = new Object() {
+            @Override
+            public String toString() {
+                toStringCalls.incrementAndGet();
+                return "payload";
+            }
+        };
+
+        // when
+        Try<Object> filtered = Try.success(payload)
+                                  .filter(p -> false);
+
+        // then
+        assertTrue(filtered.isFailure());
+        assertEquals(0, toStringCalls.get());
+        assertEquals("Predicate does not hold for payload", causeOf(filtered).getMessage());
+        assertEquals(1, toStringCalls.get());
+    }
+
+    @Test
+    public void shouldCreateStacklessFailure() {
+        // when
+        Try<String> failure = Try.failureStackless("I failed");
+
+        // then
+        Throwable cause = causeOf(failure);
+        assertTrue(cause instanceof StacklessException);
+        assertEquals(0, cause.getStackTrace().length);
+        assertEquals("I failed", cause.getMessage());
+    }
+
+    @Test
+    public void shouldComputeStacklessMessageOnce() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Try<String> failure = Try.failureStackless(() -> "call " + calls.incrementAndGet());
+
+        // when
+        Throwable cause = causeOf(failure);
+
+        // then
+        assertEquals(0, calls.get());
+        assertEquals("call 1", cause.getMessage());
+        assertEquals("call 1", cause.getMessage());
+        assertFalse(failure.equals(Try.failureStackless("call 1")));
+    }
+
+    @Test
+    public void shouldComputeStacklessMessageOnceAcrossThreads() throws InterruptedException {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        StacklessException failure = new StacklessException(() -> "computed " + calls.incrementAndGet());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                messages.add(failure.getMessage());
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertEquals(1, calls.get());
+        assertEquals(Collections.nCopies(8, "computed 1"), messages);
+    }
+
+    private static Throwable causeOf(Try<?> failure) {
+        try {
+            failure.get();
+        } catch (Throwable t) {
+            return t;
+        }
+        throw new AssertionError("Expected a failure");
+    }
+}
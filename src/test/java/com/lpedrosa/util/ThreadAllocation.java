@@ -0,0 +1,23 @@
+package com.lpedrosa.util;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by the current thread, using the HotSpot
+ * extension of ThreadMXBean.
+ */
+final class ThreadAllocation {
+
+    private final com.sun.management.ThreadMXBean bean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final long threadId = Thread.currentThread().getId();
+    private long startBytes;
+
+    void start() {
+        startBytes = bean.getThreadAllocatedBytes(threadId);
+    }
+
+    long stop() {
+        return bean.getThreadAllocatedBytes(threadId) - startBytes;
+    }
+}
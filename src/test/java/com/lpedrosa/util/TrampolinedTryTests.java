@@ -0,0 +1,82 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TrampolinedTryTests {
+
+    private static final int STEPS = 1_000_000;
+
+    @Test
+    public void shouldRunRecursiveFlatMapInConstantStack() throws Throwable {
+        // when
+        Try<Integer> result = countDown(STEPS).run();
+
+        // then
+        assertEquals(0, result.get().intValue());
+    }
+
+    @Test
+    public void shouldRunLongFlatMapChainInConstantStack() throws Throwable {
+        // given
+        TrampolinedTry<Integer> chain = TrampolinedTry.success(0);
+        for (int i = 0; i < STEPS; i++) {
+            chain = chain.flatMap(n -> TrampolinedTry.success(n + 1));
+        }
+
+        // when
+        Try<Integer> result = chain.run();
+
+        // then
+        assertEquals(STEPS, result.get().intValue());
+    }
+
+    @Test
+    public void shouldShortCircuitAndRecoverFailures() throws Throwable {
+        // given
+        TrampolinedTry<Integer> computation = TrampolinedTry.of(() -> Integer.parseInt("a"))
+                                                            .map(n -> n + 1)
+                                                            .flatMap(n -> TrampolinedTry.success(n * 2))
+                                                            .recover(t -> t instanceof NumberFormatException ? 0 : -1)
+                                                            .map(n -> n + 10);
+
+        // when
+        Try<Integer> result = computation.run();
+
+        // then
+        assertEquals(10, result.get().intValue());
+    }
+
+    @Test
+    public void shouldCaptureExceptionsThrownByMappers() {
+        // given
+        TrampolinedTry<Integer> computation = TrampolinedTry.success("a")
+                                                            .map(Integer::parseInt);
+
+        // when
+        Try<Integer> result = computation.run();
+
+        // then
+        assertTrue(result.isFailure());
+    }
+
+    @Test
+    public void shouldRecoverWithAnotherComputation() throws Throwable {
+        // given
+        TrampolinedTry<Integer> computation = TrampolinedTry.<Integer>failure(new IllegalStateException("I failed"))
+                                                            .recoverWith(t -> countDown(1000).map(n -> n + 5));
+
+        // then
+        assertEquals(5, computation.run().get().intValue());
+    }
+
+    private static TrampolinedTry<Integer> countDown(int n) {
+        if (n == 0) {
+            return TrampolinedTry.success(0);
+        }
+        return TrampolinedTry.success(n - 1)
+                             .flatMap(TrampolinedTryTests::countDown);
+    }
+}
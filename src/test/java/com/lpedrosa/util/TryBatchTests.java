@@ -0,0 +1,121 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class TryBatchTests {
+
+    private static final String[] INPUTS = { "1", "a", "3", "", "5" };
+
+    @Test
+    public void shouldCaptureFailuresAtTheirPositions() {
+        // when
+        TryBatch<Integer> batch = TryBatch.of(INPUTS, Integer::parseInt);
+
+        // then
+        assertEquals(5, batch.size());
+        assertEquals(2, batch.failureCount());
+        assertFalse(batch.isFailure(0));
+        assertTrue(batch.isFailure(1));
+        assertTrue(batch.isFailure(3));
+        assertEquals(Try.success(3), batch.get(2));
+        assertEquals(-1, batch.orElse(1, -1).intValue());
+    }
+
+    @Test
+    public void shouldMapOnlySuccesses() {
+        // given
+        TryBatch<Integer> batch = TryBatch.of(INPUTS, Integer::parseInt);
+
+        // when
+        TryBatch<Integer> mapped = batch.map(i -> 10 / (i - 3));
+
+        // then
+        assertEquals(3, mapped.failureCount());
+        assertEquals(-5, mapped.orElse(0, null).intValue());
+        assertTrue(mapped.isFailure(2));
+        assertEquals(5, mapped.orElse(4, null).intValue());
+        assertTrue(mapped.get(1).equals(batch.get(1)));
+    }
+
+    @Test
+    public void shouldFilterIntoFailures() {
+        // given
+        TryBatch<Integer> batch = TryBatch.of(INPUTS, Integer::parseInt);
+
+        // when
+        TryBatch<Integer> filtered = batch.filter(i -> i > 1);
+
+        // then
+        assertEquals(3, filtered.failureCount());
+        assertTrue(filtered.isFailure(0));
+        assertSame(filtered, filtered.filter(i -> true));
+    }
+
+    @Test
+    public void shouldRecoverFailures() {
+        // given
+        TryBatch<Integer> batch = TryBatch.of(INPUTS, Integer::parseInt);
+
+        // when
+        TryBatch<Integer> recovered = batch.recover(t -> 0);
+
+        // then
+        assertEquals(0, recovered.failureCount());
+        assertEquals(Arrays.asList(1, 0, 3, 0, 5), recovered.partition().successes());
+    }
+
+    @Test
+    public void shouldPartitionInEncounterOrder() {
+        // given
+        TryBatch<Integer> batch = TryBatch.of(INPUTS, Integer::parseInt);
+
+        // when
+        TryBatch.Partition<Integer> partition = batch.partition();
+
+        // then
+        assertEquals(Arrays.asList(1, 3, 5), partition.successes());
+        assertEquals(2, partition.failures().size());
+        assertTrue(partition.failures().get(0) instanceof NumberFormatException);
+    }
+
+    @Test
+    public void shouldBuildIncrementally() {
+        // given
+        Throwable error = new IllegalStateException("I failed");
+        TryBatch.Builder<String> builder = TryBatch.builder(1);
+
+        // when
+        TryBatch<String> batch = builder.addSuccess("a")
+                                        .add(Try.failure(error))
+                                        .add(Try.success("c"))
+                                        .build();
+
+        // then
+        assertEquals(3, batch.size());
+        assertEquals(Try.failure(error), batch.get(1));
+        assertEquals(Arrays.asList("a", "c"), batch.partition().successes());
+    }
+
+    @Test
+    public void shouldAppendBuilderToItself() {
+        // given
+        Throwable error = new IllegalStateException("I failed");
+        TryBatch.Builder<String> builder = TryBatch.<String>builder(2).addSuccess("a").addFailure(error);
+
+        // when
+        TryBatch<String> batch = builder.addAll(builder).build();
+
+        // then
+        assertEquals(4, batch.size());
+        assertEquals(2, batch.failureCount());
+        assertEquals(Try.failure(error), batch.get(3));
+        assertEquals(Arrays.asList("a", "a"), batch.partition().successes());
+    }
+}
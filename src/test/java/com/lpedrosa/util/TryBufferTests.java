@@ -0,0 +1,185 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TryBufferTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldStoreSuccessesAndFailures() {
+        // given
+        LongTryBuffer buffer = LongTryBuffer.allocate(10);
+        Throwable error = new IllegalStateException("I failed");
+
+        // when
+        buffer.setSuccess(0, 42L);
+        buffer.setFailure(1, error);
+        buffer.compute(2, () -> Long.parseLong("7"));
+        buffer.compute(3, () -> Long.parseLong("a"));
+
+        // then
+        assertEquals(10, buffer.size());
+        assertEquals(2, buffer.failureCount());
+        assertEquals(LongTry.success(42L), buffer.get(0));
+        assertEquals(LongTry.failure(error), buffer.get(1));
+        assertEquals(7L, buffer.orElse(2, -1L));
+        assertTrue(buffer.isFailure(3));
+        assertEquals(0L, buffer.orElse(9, -1L));
+    }
+
+    @Test
+    public void shouldReplaceFailureWithSuccess() {
+        // given
+        DoubleTryBuffer buffer = DoubleTryBuffer.allocate(3);
+        buffer.setFailure(1, new IllegalStateException("I failed"));
+
+        // when
+        buffer.setSuccess(1, 0.5);
+
+        // then
+        assertFalse(buffer.isFailure(1));
+        assertEquals(0, buffer.failureCount());
+        assertEquals(0.5, buffer.orElse(1, -1.0), 0.0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldRejectIndexOutOfRange() {
+        LongTryBuffer.allocate(3).isFailure(3);
+    }
+
+    @Test
+    public void shouldMapAcrossSegmentsSequentiallyAndInParallel() {
+        // given
+        int size = 300_000;
+        LongTryBuffer buffer = new LongTryBuffer(new OffHeapSlots(size, 16));
+        for (long i = 0; i < size; i++) {
+            if (i % 1000 == 0) {
+                buffer.setFailure(i, new IllegalStateException("I failed"));
+            } else {
+                buffer.setSuccess(i, i);
+            }
+        }
+
+        // when
+        LongTryBuffer sequential = buffer.map(l -> 100 / (l % 7));
+        LongTryBuffer parallel = buffer.parallelMap(l -> 100 / (l % 7));
+
+        // then
+        for (long i = 0; i < size; i++) {
+            boolean expectedFailure = i % 1000 == 0 || i % 7 == 0;
+            assertEquals(expectedFailure, sequential.isFailure(i));
+            assertEquals(expectedFailure, parallel.isFailure(i));
+            if (!expectedFailure) {
+                assertEquals(100 / (i % 7), sequential.orElse(i, -1L));
+                assertEquals(100 / (i % 7), parallel.orElse(i, -1L));
+            }
+        }
+        assertEquals(sequential.failureCount(), parallel.failureCount());
+    }
+
+    @Test
+    public void shouldMapDoubles() {
+        // given
+        DoubleTryBuffer buffer = DoubleTryBuffer.allocate(4);
+        buffer.compute(0, () -> Double.parseDouble("1.5"));
+        buffer.compute(1, () -> Double.parseDouble("x"));
+
+        // when
+        DoubleTryBuffer mapped = buffer.map(d -> d * 2);
+
+        // then
+        assertEquals(DoubleTry.success(3.0), mapped.get(0));
+        assertTrue(mapped.isFailure(1));
+        assertEquals(0.0, mapped.orElse(2, -1.0), 0.0);
+    }
+
+    @Test
+    public void shouldStoreAndMapInMappedFile() throws IOException {
+        // given
+        Path directory = this.folder.getRoot().toPath();
+
+        // when
+        try (LongTryBuffer buffer = LongTryBuffer.allocateMapped(1000, directory)) {
+            buffer.setSuccess(1, 10L);
+            buffer.setFailure(2, new IllegalStateException("I failed"));
+
+            try (LongTryBuffer mapped = buffer.map(l -> l + 1)) {
+                // then
+                assertEquals(1L, mapped.orElse(0, -1L));
+                assertEquals(11L, mapped.orElse(1, -1L));
+                assertTrue(mapped.isFailure(2));
+            }
+        }
+        assertEquals(0, fileCount(directory));
+    }
+
+    @Test
+    public void shouldRejectUseAfterClose() {
+        // given
+        DoubleTryBuffer buffer = DoubleTryBuffer.allocate(3);
+        buffer.setFailure(0, new IllegalStateException("I failed"));
+
+        // when
+        buffer.close();
+        buffer.close();
+
+        // then
+        assertEquals(3, buffer.size());
+        assertEquals(0, buffer.failureCount());
+        try {
+            buffer.orElse(1, -1.0);
+            fail("closed buffer should not be readable");
+        } catch (IllegalStateException expected) {
+            // released memory is never accessed
+        }
+    }
+
+    @Test
+    public void shouldWaitForReadersBeforeReleasing() throws InterruptedException {
+        // given
+        LongTryBuffer buffer = LongTryBuffer.allocate(1 << 20);
+        AtomicReference<Throwable> stopped = new AtomicReference<>();
+        CountDownLatch reading = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            try {
+                for (long i = 0; ; i = (i + 1) & ((1 << 20) - 1)) {
+                    buffer.orElse(i, -1L);
+                    reading.countDown();
+                }
+            } catch (Throwable t) {
+                stopped.set(t);
+            }
+        });
+        reader.start();
+        reading.await();
+
+        // when
+        buffer.close();
+        reader.join();
+
+        // then
+        assertTrue(stopped.get() instanceof IllegalStateException);
+    }
+
+    private static long fileCount(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
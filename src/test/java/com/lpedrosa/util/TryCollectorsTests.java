@@ -0,0 +1,98 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class TryCollectorsTests {
+
+    private static final int SIZE = 10_000;
+
+    @Test
+    public void shouldPartitionInEncounterOrder() {
+        // when
+        TryBatch.Partition<Integer> partition = parsed("1", "x", "2", "", "3").collect(TryCollectors.partitioning());
+
+        // then
+        assertEquals(Arrays.asList(1, 2, 3), partition.successes());
+        assertEquals(2, partition.failures().size());
+        assertTrue(partition.failures().get(0) instanceof NumberFormatException);
+    }
+
+    @Test
+    public void shouldCollectSuccessesAndFailuresSeparately() {
+        // when
+        List<Integer> successes = parsed("1", "x", "2").collect(TryCollectors.successesToList());
+        List<Throwable> failures = parsed("1", "x", "2").collect(TryCollectors.failuresToList());
+
+        // then
+        assertEquals(Arrays.asList(1, 2), successes);
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void shouldSequenceToFirstFailure() {
+        // given
+        Try<Integer> first = Try.failure(new IllegalStateException("first"));
+        Try<Integer> second = Try.failure(new IllegalStateException("second"));
+
+        // when
+        Try<List<Integer>> all = parsed("1", "2", "3").collect(TryCollectors.sequence());
+        Try<List<Integer>> failed = Stream.of(Try.success(1), first, Try.success(2), second)
+                                          .collect(TryCollectors.sequence());
+
+        // then
+        assertEquals(Arrays.asList(1, 2, 3), all.getOrNull());
+        assertSame(first.getCause(), failed.getCause());
+    }
+
+    @Test
+    public void shouldCollectToTryBatch() {
+        // when
+        TryBatch<Integer> batch = parsed("1", "x", "2").collect(TryCollectors.toTryBatch());
+
+        // then
+        assertEquals(3, batch.size());
+        assertEquals(1, batch.failureCount());
+        assertTrue(batch.isFailure(1));
+        assertEquals(Integer.valueOf(2), batch.orElse(2, 0));
+    }
+
+    @Test
+    public void shouldKeepEncounterOrderInParallel() {
+        // given
+        List<Try<Integer>> results = IntStream.range(0, SIZE)
+                                              .mapToObj(i -> i % 3 == 0 ? Try.<Integer>failure(new IllegalStateException("" + i))
+                                                                        : Try.success(i))
+                                              .collect(Collectors.toList());
+
+        // when
+        TryBatch.Partition<Integer> partition = results.parallelStream().collect(TryCollectors.partitioning());
+        TryBatch<Integer> batch = results.parallelStream().collect(TryCollectors.toTryBatch());
+        List<Integer> successes = results.parallelStream().collect(TryCollectors.successesToList());
+        Try<List<Integer>> sequenced = results.parallelStream().collect(TryCollectors.sequence());
+
+        // then
+        List<Integer> expected = IntStream.range(0, SIZE).filter(i -> i % 3 != 0).boxed().collect(Collectors.toList());
+        assertEquals(expected, partition.successes());
+        assertEquals(expected, successes);
+        assertEquals("3", partition.failures().get(1).getMessage());
+        assertEquals(SIZE, batch.size());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i % 3 == 0, batch.isFailure(i));
+        }
+        assertEquals("0", sequenced.getCause().getMessage());
+    }
+
+    private static Stream<Try<Integer>> parsed(String... inputs) {
+        return Stream.of(inputs).map(s -> Try.of(() -> Integer.parseInt(s)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TryConsumerTests {
+
+    private final IllegalStateException error = new IllegalStateException("I failed");
+    private final Try<String> success = Try.success("value");
+    private final Try<String> failure = Try.failure(error);
+
+    @Test
+    public void shouldFoldIntoOneResult() {
+        assertEquals(5, success.fold(String::length, t -> -1).intValue());
+        assertEquals(-1, failure.fold(String::length, t -> -1).intValue());
+    }
+
+    @Test
+    public void shouldReadValueAndCauseWithoutThrowing() {
+        assertEquals("value", success.getOrNull());
+        assertNull(success.getCause());
+        assertNull(failure.getOrNull());
+        assertSame(error, failure.getCause());
+    }
+
+    @Test
+    public void shouldRunOnlyTheMatchingAction() {
+        // given
+        List<Object> seen = new ArrayList<>();
+
+        // when
+        success.ifSuccess(seen::add);
+        success.ifFailure(seen::add);
+        failure.ifSuccess(seen::add);
+        failure.ifFailure(seen::add);
+        success.ifSuccessOrElse(v -> seen.add(v + "!"), seen::add);
+        failure.ifSuccessOrElse(seen::add, t -> seen.add(t.getMessage()));
+
+        // then
+        assertEquals(Arrays.asList("value", error, "value!", "I failed"), seen);
+    }
+
+    @Test
+    public void shouldThrowUncheckedFailuresAsIs() {
+        assertEquals("value", success.getOrThrowUnchecked());
+        try {
+            failure.getOrThrowUnchecked();
+            fail("Should've thrown an exception");
+        } catch (IllegalStateException e) {
+            assertSame(error, e);
+        }
+    }
+
+    @Test
+    public void shouldWrapCheckedFailures() {
+        // given
+        IOException checked = new IOException("I failed");
+
+        // when
+        try {
+            Try.failure(checked).getOrThrowUnchecked();
+            fail("Should've thrown an exception");
+        } catch (UndeclaredThrowableException e) {
+            // then
+            assertSame(checked, e.getCause());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TryEqualityTests {
+
+    @Test
+    public void shouldHashLikeTheUnderlyingValue() {
+        // given
+        Try<String> success = Try.success("value");
+        Throwable error = new IllegalStateException("I failed");
+        Try<String> failure = Try.failure(error);
+
+        // then
+        assertEquals("value".hashCode(), success.hashCode());
+        assertEquals(error.hashCode(), failure.hashCode());
+        assertEquals(0, Try.of(() -> null).hashCode());
+    }
+
+    @Test
+    public void shouldAgreeWithEquals() {
+        // given
+        Throwable error = new IllegalStateException("I failed");
+
+        // then
+        assertEquals(Try.success(42), Try.success(42));
+        assertEquals(Try.success(42).hashCode(), Try.success(42).hashCode());
+        assertEquals(Try.failure(error), Try.failure(error));
+        assertEquals(Try.failure(error).hashCode(), Try.failure(error).hashCode());
+        assertNotEquals(Try.success(error), Try.failure(error));
+    }
+
+    @Test
+    public void shouldSpreadTriesAcrossHashSet() {
+        // given
+        Set<Try<Integer>> tries = new HashSet<>();
+        Set<Integer> hashes = new HashSet<>();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            tries.add(Try.success(i));
+            tries.add(Try.success(i));
+            hashes.add(Try.success(i).hashCode());
+        }
+
+        // then
+        assertEquals(1000, tries.size());
+        assertEquals(1000, hashes.size());
+        assertTrue(tries.contains(Try.success(999)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import com.lpedrosa.util.function.ThrowableSupplier;
+
+public class TryFailurePathTests {
+
+    private static final int ITERATIONS = 100_000;
+
+    private static final Function<String, Integer> LENGTH = String::length;
+    private static final Function<String, Try<Integer>> TRY_LENGTH = s -> Try.success(s.length());
+    private static final Predicate<String> NOT_EMPTY = s -> !s.isEmpty();
+    private static final ThrowableSupplier<String> FALLBACK = () -> "fallback";
+
+    private final Try<String> failure = Try.failure(new IllegalStateException("I failed"));
+    private final Try<String> success = Try.success("value");
+
+    @Test
+    public void shouldReturnSameInstanceWithoutCallingMapperWhenFailure() {
+        // when
+        Try<Integer> mapped = failure.map(s -> { fail("mapper should not run"); return 0; });
+        Try<Integer> flatMapped = failure.flatMap(s -> { fail("mapper should not run"); return null; });
+        Try<String> filtered = failure.filter(s -> { fail("predicate should not run"); return true; });
+
+        // then
+        assertSame(failure, mapped);
+        assertSame(failure, flatMapped);
+        assertSame(failure, filtered);
+    }
+
+    @Test
+    public void shouldReturnSameInstanceWithoutCallingSupplierWhenSuccess() {
+        // when
+        Try<String> resolved = success.orElseGet(() -> { fail("supplier should not run"); return null; });
+
+        // then
+        assertSame(success, resolved);
+        assertEquals("value", success.orElse("other"));
+    }
+
+    @Test
+    public void shouldNotAllocateOnFailurePath() {
+        // given
+        ThreadAllocation allocation = new ThreadAllocation();
+        runFailurePath(ITERATIONS);
+
+        // when
+        allocation.start();
+        int sink = runFailurePath(ITERATIONS);
+        long allocated = allocation.stop();
+
+        // then
+        assertEquals(-ITERATIONS, sink);
+        assertTrue("failure path allocated " + allocated + " bytes", allocated < ITERATIONS);
+    }
+
+    @Test
+    public void shouldNotAllocateOnSuccessFallbackPath() {
+        // given
+        ThreadAllocation allocation = new ThreadAllocation();
+        runSuccessFallbackPath(ITERATIONS);
+
+        // when
+        allocation.start();
+        int sink = runSuccessFallbackPath(ITERATIONS);
+        long allocated = allocation.stop();
+
+        // then
+        assertEquals(ITERATIONS * "value".length(), sink);
+        assertTrue("fallback path allocated " + allocated + " bytes", allocated < ITERATIONS);
+    }
+
+    private int runFailurePath(int iterations) {
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            Try<Integer> result = failure.filter(NOT_EMPTY)
+                                         .map(LENGTH)
+                                         .map(String::valueOf)
+                                         .flatMap(TRY_LENGTH);
+            sink += result.isFailure() ? -1 : result.orElse(0);
+        }
+        return sink;
+    }
+
+    private int runSuccessFallbackPath(int iterations) {
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += success.orElseGet(FALLBACK)
+                           .orElse("other")
+                           .length();
+        }
+        return sink;
+    }
+}
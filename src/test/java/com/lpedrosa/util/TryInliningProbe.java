@@ -0,0 +1,76 @@
+package com.lpedrosa.util;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.lpedrosa.util.function.ThrowableFunction;
+import com.lpedrosa.util.function.ThrowableSupplier;
+
+/**
+ * Runs hot Try chains in a JVM started by {@link TryInliningTests}, which inspects the
+ * inlining decisions printed by the JIT. Once warmed up, it prints the number of bytes
+ * allocated per successful chain of eight stages, three of which create a new Try unless
+ * it is scalar replaced.
+ */
+final class TryInliningProbe {
+
+    static final String BYTES_PER_OP = "bytes-per-op=";
+
+    private static final int ROUNDS = 30;
+    private static final int ITERATIONS = 200_000;
+
+    private static final Function<Integer, Integer> INCREMENT = i -> (i + 1) & 63;
+    private static final ThrowableFunction<Integer, Integer> DECREMENT = i -> (i - 1) & 63;
+    private static final Function<Integer, Try<Integer>> TRY_SAME = Try::success;
+    private static final Predicate<Integer> ALWAYS = i -> i >= 0;
+    private static final Function<Throwable, Integer> RECOVER = t -> 0;
+    private static final Function<Throwable, Try<Integer>> RECOVER_WITH = t -> Try.success(0);
+    private static final ThrowableSupplier<Integer> FALLBACK = () -> 0;
+
+    private static final Try<Integer> FAILURE = Try.failure(new IllegalStateException("probe"));
+
+    private TryInliningProbe() {
+    }
+
+    public static void main(String[] args) {
+        ThreadAllocation allocation = new ThreadAllocation();
+        long sink = 0;
+        long allocated = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            allocation.start();
+            for (int i = 0; i < ITERATIONS; i++) {
+                sink += successChain(i & 63);
+            }
+            allocated = allocation.stop();
+
+            for (int i = 0; i < ITERATIONS / 10; i++) {
+                sink += failureChain(i);
+            }
+        }
+
+        System.out.println("sink=" + sink);
+        System.out.println(BYTES_PER_OP + ((double) allocated / ITERATIONS));
+    }
+
+    private static int successChain(int seed) {
+        Try<Integer> base = Try.success(seed);
+        return base.map(INCREMENT)
+                   .mapTry(DECREMENT)
+                   .flatMap(TRY_SAME)
+                   .filter(ALWAYS)
+                   .recover(RECOVER)
+                   .recoverWith(RECOVER_WITH)
+                   .orElseGet(FALLBACK)
+                   .map(INCREMENT)
+                   .orElse(-1);
+    }
+
+    private static int failureChain(int seed) {
+        Try<Integer> base = (seed & 1) == 0 ? FAILURE : Try.of(() -> seed & 63);
+        Try<Integer> result = base.map(INCREMENT)
+                                  .recover(RECOVER)
+                                  .orElseGet(FALLBACK);
+        return result.isFailure() ? -1 : result.orElse(0);
+    }
+}
@@ -0,0 +1,109 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Runs {@link TryInliningProbe} in a separate HotSpot JVM, with C2 only and
+ * {@code -XX:+PrintInlining}, and fails if the core Try methods are no longer inlined
+ * into hot chains, or if the chains no longer get their intermediate Try instances
+ * scalar replaced.
+ * <p>
+ * The first stage of a chain may keep its Try: once failures have been seen, its result
+ * merges with the source instance (returned as is on failure), which escape analysis
+ * cannot see through. Every later stage works on a fresh instance and must be eliminated,
+ * so a chain may allocate at most one Try.
+ */
+public class TryInliningTests {
+
+    private static final List<String> CORE_METHODS = Arrays.asList(
+            "success", "map", "mapTry", "flatMap", "filter", "recover", "recoverWith", "orElse", "orElseGet");
+
+    /** The size of one Try with 8-byte aligned objects and uncompressed references, the largest layout. */
+    private static final double ONE_TRY_BYTES = 32.0;
+
+    private static final Pattern TRY_CALL = Pattern.compile("com\\.lpedrosa\\.util\\.Try::(\\w+) \\(\\d+ bytes\\)\\s+(.*)");
+
+    @Test
+    public void shouldInlineCoreMethodsAndEliminateIntermediateTries() throws Exception {
+        assumeTrue(System.getProperty("java.vm.name", "").contains("HotSpot")
+                || System.getProperty("java.vm.name", "").contains("OpenJDK"));
+
+        // given
+        List<String> output = runProbe();
+
+        // when
+        List<String> rejected = new ArrayList<>();
+        List<String> inlined = new ArrayList<>();
+        double bytesPerOp = Double.NaN;
+        for (String line : output) {
+            Matcher call = TRY_CALL.matcher(line);
+            if (call.find() && CORE_METHODS.contains(call.group(1))) {
+                String decision = call.group(2);
+                if (decision.contains("too big") || decision.contains("too large")) {
+                    rejected.add(line.trim());
+                } else if (decision.startsWith("inline")) {
+                    inlined.add(call.group(1));
+                }
+            } else if (line.startsWith(TryInliningProbe.BYTES_PER_OP)) {
+                bytesPerOp = Double.parseDouble(line.substring(TryInliningProbe.BYTES_PER_OP.length()));
+            }
+        }
+
+        // then
+        assertEquals("Try methods not inlined: " + rejected, 0, rejected.size());
+        assertTrue("Try methods never inlined: " + missing(inlined), inlined.containsAll(CORE_METHODS));
+        assertTrue("Intermediate Try instances were not scalar replaced, allocating " + bytesPerOp + " bytes per chain",
+                   bytesPerOp <= ONE_TRY_BYTES);
+    }
+
+    private static List<String> missing(List<String> inlined) {
+        List<String> missing = new ArrayList<>(CORE_METHODS);
+        missing.removeAll(inlined);
+        return missing;
+    }
+
+    private static List<String> runProbe() throws IOException, InterruptedException, URISyntaxException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        String classpath = location(Try.class) + File.pathSeparator + location(TryInliningProbe.class);
+
+        Process process = new ProcessBuilder(java,
+                                             "-XX:-TieredCompilation",
+                                             "-XX:+UnlockDiagnosticVMOptions",
+                                             "-XX:+PrintInlining",
+                                             "-cp", classpath,
+                                             TryInliningProbe.class.getName())
+                .redirectErrorStream(true)
+                .start();
+
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                                                                              StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.add(line);
+            }
+        }
+        assertEquals("Probe failed: " + output, 0, process.waitFor());
+        return output;
+    }
+
+    private static String location(Class<?> type) throws URISyntaxException {
+        return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+    }
+}
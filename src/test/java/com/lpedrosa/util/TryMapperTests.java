@@ -1,8 +1,13 @@
 package com.lpedrosa.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 public class TryMapperTests {
@@ -97,6 +102,69 @@ public class TryMapperTests {
         assertEquals(0, integer.get().intValue());
     }
 
+    @Test
+    public void shouldMapWithCheckedExceptionMapper() throws Throwable {
+        // given
+        Try<String> computation = Try.success("2")
+                                     .mapTry(this::checkedParse)
+                                     .mapTry(Object::toString);
+
+        // then
+        assertEquals("2", computation.get());
+        assertTrue(Try.success("a").mapTry(this::checkedParse).isFailure());
+    }
+
+    @Test(expected = Exception.class)
+    public void shouldCaptureExceptionThrownByFlatMapTry() throws Throwable {
+        // given
+        Try<Integer> computation = Try.success("a")
+                                      .flatMapTry(s -> Try.success(checkedParse(s)));
+
+        // when
+        computation.get();
+
+        // then
+        fail("Should've thrown an exception");
+    }
+
+    @Test
+    public void shouldFilterWithCheckedExceptionPredicate() {
+        // given
+        Try<String> accepted = Try.success("2").filterTry(s -> checkedParse(s) > 1);
+        Try<String> rejected = Try.success("1").filterTry(s -> checkedParse(s) > 1);
+        Try<String> failed = Try.success("a").filterTry(s -> checkedParse(s) > 1);
+
+        // then
+        assertEquals(Try.success("2"), accepted);
+        assertTrue(rejected.isFailure());
+        assertTrue(failed.isFailure());
+    }
+
+    @Test
+    public void shouldPeekOnlyAtSuccesses() {
+        // given
+        List<String> seen = new ArrayList<>();
+
+        // when
+        Try<String> success = Try.success("a").peek(seen::add);
+        Try<String> failure = Try.<String>failure(new Exception("I failed")).peek(seen::add);
+        Try<String> peekFailed = Try.success("b").peek(s -> { throw new Exception("I failed"); });
+
+        // then
+        assertEquals(Arrays.asList("a"), seen);
+        assertEquals(Try.success("a"), success);
+        assertTrue(failure.isFailure());
+        assertTrue(peekFailed.isFailure());
+    }
+
+    private Integer checkedParse(String s) throws Exception {
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException e) {
+            throw new Exception("Not a number: " + s, e);
+        }
+    }
+
     private String somethingThatMightFail() throws Exception {
         throw new Exception("I failed");
     }
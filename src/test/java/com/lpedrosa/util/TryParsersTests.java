@@ -0,0 +1,143 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class TryParsersTests {
+
+    @Test
+    public void shouldParseIntWithinRangeWithoutSubstring() throws Throwable {
+        // given
+        String line = "id=-2147483648;count=+42";
+
+        // when
+        IntTry id = TryParsers.parseInt(line, 3, 14);
+        IntTry count = TryParsers.parseInt(line, 21, line.length());
+
+        // then
+        assertEquals(Integer.MIN_VALUE, id.getAsInt());
+        assertEquals(42, count.getAsInt());
+    }
+
+    @Test
+    public void shouldReturnStacklessNumberFormatExceptionForMalformedInt() {
+        // given
+        String[] malformed = { "", "-", "12a", " 1", "2147483648", "-2147483649", "99999999999" };
+
+        for (String input : malformed) {
+            // when
+            IntTry parsed = TryParsers.parseInt(input);
+
+            // then
+            Throwable cause = parsed.mapToObj(i -> i).getCause();
+            assertTrue(input, cause instanceof NumberFormatException);
+            assertEquals(0, cause.getStackTrace().length);
+        }
+    }
+
+    @Test
+    public void shouldIncludeReasonAndInputInMessage() {
+        // when
+        Throwable cause = TryParsers.parseInt("value=12a;", 6, 9).mapToObj(i -> i).getCause();
+
+        // then
+        assertEquals("Not a decimal digit at index 8: \"12a\"", cause.getMessage());
+        assertEquals("Unexpected character at index 3: \"1.5x\"",
+                     TryParsers.parseDouble("1.5x").mapToObj(d -> d).getCause().getMessage());
+        assertEquals("Expected '-' at index 8: \"123e4567xe89b-12d3-a456-426614174000\"",
+                     TryParsers.parseUuid("123e4567xe89b-12d3-a456-426614174000").getCause().getMessage());
+    }
+
+    @Test
+    public void shouldParseLongBounds() throws Throwable {
+        // then
+        assertEquals(Long.MAX_VALUE, TryParsers.parseLong(Long.toString(Long.MAX_VALUE)).getAsLong());
+        assertEquals(Long.MIN_VALUE, TryParsers.parseLong(Long.toString(Long.MIN_VALUE)).getAsLong());
+        assertTrue(TryParsers.parseLong("9223372036854775808").isFailure());
+    }
+
+    @Test
+    public void shouldParseDoublesLikeDoubleParseDouble() throws Throwable {
+        // given
+        String[] inputs = { "0", "-0", "1", "0.1", "-12.5e-3", "3.141592653589793", ".5", "5.", "1E22", "1e23",
+                            "123456789012345678901234567890", "0.000000000000000000000000001", "4.9e-324",
+                            "1.7976931348623157e308", "1e400", "-1e-400", "NaN", "-Infinity", "+0.30000000000000004" };
+
+        for (String input : inputs) {
+            // when
+            double parsed = TryParsers.parseDouble(input).getAsDouble();
+
+            // then
+            assertEquals(input, Double.doubleToRawLongBits(Double.parseDouble(input)), Double.doubleToRawLongBits(parsed));
+        }
+    }
+
+    @Test
+    public void shouldFailOnMalformedDouble() {
+        // given
+        String[] malformed = { "", ".", "-", "e5", "1e", "1e+", "1.2.3", "0x1p3", "1d", " 1", "Inf" };
+
+        for (String input : malformed) {
+            // when
+            DoubleTry parsed = TryParsers.parseDouble(input);
+
+            // then
+            assertTrue(input, parsed.isFailure());
+            assertTrue(input, parsed.mapToObj(d -> d).getCause() instanceof NumberFormatException);
+        }
+    }
+
+    @Test
+    public void shouldParseBooleanStrictly() {
+        // then
+        assertSame(Boolean.TRUE, TryParsers.parseBoolean("TRUE").getOrNull());
+        assertSame(Boolean.FALSE, TryParsers.parseBoolean("x=false", 2, 7).getOrNull());
+        assertTrue(TryParsers.parseBoolean("yes").getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void shouldParseUuid() {
+        // given
+        UUID expected = UUID.randomUUID();
+        String input = "[" + expected + "]";
+
+        // when
+        Try<UUID> parsed = TryParsers.parseUuid(input, 1, input.length() - 1);
+
+        // then
+        assertEquals(expected, parsed.getOrNull());
+        assertTrue(TryParsers.parseUuid("123e4567-e89b-12d3-a456-42661417400g").isFailure());
+        assertTrue(TryParsers.parseUuid("123e4567e89b-12d3-a456-4266141740000").isFailure());
+        assertTrue(TryParsers.parseUuid("123e4567-e89b-12d3-a456").isFailure());
+    }
+
+    @Test
+    public void shouldParseIsoLocalDate() {
+        // then
+        assertEquals(LocalDate.of(2016, 2, 29), TryParsers.parseLocalDate("2016-02-29").getOrNull());
+        assertEquals(LocalDate.of(2014, 6, 30), TryParsers.parseLocalDate("on 2014-06-30.", 3, 13).getOrNull());
+
+        Throwable cause = TryParsers.parseLocalDate("2015-02-29").getCause();
+        assertTrue(cause instanceof DateTimeParseException);
+        assertEquals(8, ((DateTimeParseException) cause).getErrorIndex());
+        assertEquals("2015-02-29", ((DateTimeParseException) cause).getParsedString());
+        assertEquals("Invalid day of month: \"2015-02-29\"", cause.getMessage());
+        assertEquals(0, cause.getStackTrace().length);
+        assertFalse(TryParsers.parseLocalDate("2015-13-01").getCause() == null);
+        assertTrue(TryParsers.parseLocalDate("2015/01/01").isFailure());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldRejectRangeOutsideInput() {
+        // when
+        TryParsers.parseInt("12", 1, 3);
+    }
+}
@@ -0,0 +1,130 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class TryPipelineTests {
+
+    private static final int ITERATIONS = 100_000;
+
+    /** The size of one Try with 8-byte aligned objects and uncompressed references, the largest layout. */
+    private static final long ONE_TRY_BYTES = 32;
+
+    private static final TryPipeline<String, Integer> PARSE = TryPipeline.<String>start()
+                                                                         .map(String::trim)
+                                                                         .map(Integer::parseInt)
+                                                                         .filter(i -> i >= 0);
+
+    @Test
+    public void shouldBehaveLikeTheEquivalentTryChain() {
+        for (String input : new String[] { " 42 ", "a", "-1" }) {
+            // given
+            Try<Integer> fluent = Try.success(input)
+                                     .map(String::trim)
+                                     .map(Integer::parseInt)
+                                     .filter(i -> i >= 0);
+
+            // when
+            Try<Integer> piped = PARSE.apply(input);
+
+            // then
+            assertEquals(fluent.isFailure(), piped.isFailure());
+            assertEquals(fluent.orElse(null), piped.orElse(null));
+        }
+    }
+
+    @Test
+    public void shouldRecoverOnlyFailures() {
+        // given
+        TryPipeline<String, Integer> pipeline = PARSE.recover(t -> t instanceof NumberFormatException ? 0 : -1)
+                                                     .map(i -> i + 1);
+
+        // then
+        assertEquals(Try.success(43), pipeline.apply("42"));
+        assertEquals(Try.success(1), pipeline.apply("a"));
+        assertEquals(Try.success(0), pipeline.apply("-5"));
+    }
+
+    @Test
+    public void shouldFlatMapIntoFailures() {
+        // given
+        Throwable error = new IllegalStateException("I failed");
+        TryPipeline<String, Integer> pipeline = PARSE.flatMap(i -> i > 10 ? Try.success(i) : Try.failure(error));
+
+        // then
+        assertEquals(Try.success(42), pipeline.apply("42"));
+        assertEquals(Try.failure(error), pipeline.apply("3"));
+    }
+
+    @Test
+    public void shouldReturnInputFromEmptyPipeline() {
+        assertEquals(Try.success("a"), TryPipeline.<String>start().apply("a"));
+    }
+
+    @Test
+    public void shouldApplyToAllInputs() {
+        // given
+        String[] inputs = { "1", "a", " 3", "-4" };
+
+        // when
+        TryBatch<Integer> fromArray = PARSE.applyAll(inputs);
+        TryBatch<Integer> fromIterable = PARSE.applyAll(Arrays.asList(inputs));
+
+        // then
+        assertEquals(4, fromArray.size());
+        assertEquals(Arrays.asList(1, 3), fromArray.partition().successes());
+        assertTrue(fromArray.isFailure(1));
+        assertTrue(fromArray.isFailure(3));
+        assertEquals(fromArray.partition().successes(), fromIterable.partition().successes());
+        assertEquals(2, fromIterable.failureCount());
+    }
+
+    @Test
+    public void shouldKeepThrowableOutputsAsSuccesses() {
+        // given
+        IllegalStateException error = new IllegalStateException("a value, not a failure");
+        TryPipeline<String, Throwable> pipeline = TryPipeline.<String>start().map(s -> error);
+
+        // when
+        Try<Throwable> output = pipeline.apply("a");
+        TryBatch<Throwable> outputs = pipeline.applyAll(new String[] { "a" });
+
+        // then
+        assertEquals(Try.success(error), output);
+        assertFalse(outputs.isFailure(0));
+        assertSame(error, outputs.orElse(0, null));
+    }
+
+    @Test
+    public void shouldAllocateOnlyTheResult() {
+        // given
+        ThreadAllocation allocation = new ThreadAllocation();
+        TryPipeline<String, String> pipeline = TryPipeline.<String>start()
+                                                          .map(String::trim)
+                                                          .filter(s -> !s.isEmpty());
+        runPipeline(pipeline, ITERATIONS);
+
+        // when
+        allocation.start();
+        int sink = runPipeline(pipeline, ITERATIONS);
+        long allocated = allocation.stop();
+
+        // then
+        assertEquals(ITERATIONS, sink);
+        assertTrue("pipeline allocated " + allocated + " bytes", allocated < ITERATIONS * ONE_TRY_BYTES);
+    }
+
+    private static int runPipeline(TryPipeline<String, String> pipeline, int iterations) {
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += pipeline.apply("a").orElse("").length();
+        }
+        return sink;
+    }
+}
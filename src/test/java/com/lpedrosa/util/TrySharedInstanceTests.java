@@ -0,0 +1,66 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.lpedrosa.util.function.ThrowableRunnable;
+
+public class TrySharedInstanceTests {
+
+    private static final int ITERATIONS = 100_000;
+
+    private int counter;
+    private final ThrowableRunnable increment = () -> counter++;
+
+    @Test
+    public void shouldShareSuccessOfSideEffects() {
+        // when
+        Try<Void> first = Try.run(() -> counter++);
+        Try<Void> second = Try.run(() -> counter++);
+
+        // then
+        assertSame(first, second);
+        assertEquals(2, counter);
+        assertTrue(Try.run(() -> { throw new Exception("I failed"); }).isFailure());
+    }
+
+    @Test
+    public void shouldShareCommonSuccessValues() {
+        assertSame(Try.success(true), Try.success(Boolean.TRUE));
+        assertSame(Try.success(false), Try.success(Boolean.FALSE));
+        assertSame(Try.success(-128), Try.success(-128));
+        assertSame(Try.success(127), Try.success(127));
+        assertSame(Try.success(""), Try.success(new String()));
+        assertNotSame(Try.success(128), Try.success(128));
+        assertEquals(Try.success(128), Try.success(128));
+    }
+
+    @Test
+    public void shouldNotAllocateForSuccessfulSideEffects() {
+        // given
+        ThreadAllocation allocation = new ThreadAllocation();
+        runSideEffects(ITERATIONS);
+
+        // when
+        allocation.start();
+        int failures = runSideEffects(ITERATIONS);
+        long allocated = allocation.stop();
+
+        // then
+        assertEquals(0, failures);
+        assertTrue("side effects allocated " + allocated + " bytes", allocated < ITERATIONS);
+    }
+
+    private int runSideEffects(int iterations) {
+        int failures = 0;
+        for (int i = 0; i < iterations; i++) {
+            failures += Try.run(increment).isFailure() ? 1 : 0;
+            failures += Try.success(i % 2 == 0).isFailure() ? 1 : 0;
+        }
+        return failures;
+    }
+}
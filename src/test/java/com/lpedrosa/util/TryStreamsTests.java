@@ -0,0 +1,127 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.lpedrosa.util.function.ThrowableSupplier;
+
+public class TryStreamsTests {
+
+    private static final int SIZE = 1_000_000;
+
+    @Test
+    public void shouldTraverseInEncounterOrder() {
+        // when
+        Try<List<Integer>> parsed = TryStreams.traverse(Stream.of("1", "2", "3"), Integer::parseInt);
+        Try<List<Integer>> empty = TryStreams.traverse(Stream.<String>empty(), Integer::parseInt);
+
+        // then
+        assertEquals(Arrays.asList(1, 2, 3), parsed.getOrNull());
+        assertTrue(empty.getOrNull().isEmpty());
+    }
+
+    @Test
+    public void shouldStopPullingAtFirstFailure() {
+        // given
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<String> inputs = Stream.of("1", "x", "2", "y").peek(s -> pulled.incrementAndGet());
+
+        // when
+        Try<List<Integer>> parsed = TryStreams.traverse(inputs, Integer::parseInt);
+
+        // then
+        assertEquals("For input string: \"x\"", parsed.getCause().getMessage());
+        assertEquals(2, pulled.get());
+    }
+
+    @Test
+    public void shouldStopTraversingInfiniteStream() {
+        // given
+        Stream<Integer> naturals = Stream.iterate(0, i -> i + 1);
+
+        // when
+        Try<List<Integer>> traversed = TryStreams.traverse(naturals, i -> {
+            if (i == 100) {
+                throw new IllegalStateException("" + i);
+            }
+            return i;
+        });
+
+        // then
+        assertEquals("100", traversed.getCause().getMessage());
+    }
+
+    @Test
+    public void shouldSequenceSuppliers() {
+        // given
+        AtomicInteger evaluated = new AtomicInteger();
+        Stream<ThrowableSupplier<Integer>> computations = Stream.of(() -> evaluated.incrementAndGet(),
+                                                                    () -> { throw new IllegalStateException("second"); },
+                                                                    () -> evaluated.incrementAndGet());
+
+        // when
+        Try<List<Integer>> sequenced = TryStreams.sequence(computations);
+
+        // then
+        assertEquals("second", sequenced.getCause().getMessage());
+        assertEquals(1, evaluated.get());
+        assertEquals(Arrays.asList(1, 2), TryStreams.sequence(Stream.<ThrowableSupplier<Integer>>of(() -> 1, () -> 2))
+                                                    .getOrNull());
+    }
+
+    @Test
+    public void shouldReduceResults() {
+        // when
+        Try<Integer> sum = TryStreams.traverse(Stream.of("1", "2", "3"), Integer::parseInt, 0, Integer::sum, Integer::sum);
+        Try<Integer> failed = TryStreams.traverse(Stream.of("1", "x"), Integer::parseInt, 0, Integer::sum, Integer::sum);
+        Try<Integer> thrown = TryStreams.traverse(Stream.of("1", "2"), Integer::parseInt, 0,
+                                                  (a, b) -> { throw new ArithmeticException(); }, Integer::sum);
+
+        // then
+        assertEquals(Integer.valueOf(6), sum.getOrNull());
+        assertTrue(failed.getCause() instanceof NumberFormatException);
+        assertTrue(thrown.getCause() instanceof ArithmeticException);
+    }
+
+    @Test
+    public void shouldTraverseParallelStreamInEncounterOrder() {
+        // when
+        Try<List<Integer>> traversed = TryStreams.traverse(IntStream.range(0, SIZE).boxed().parallel(), i -> i * 2);
+        Try<Long> sum = TryStreams.traverse(IntStream.range(0, SIZE).boxed().parallel(), Integer::longValue,
+                                            0L, Long::sum, Long::sum);
+
+        // then
+        List<Integer> expected = IntStream.range(0, SIZE).map(i -> i * 2).boxed().collect(Collectors.toList());
+        assertEquals(expected, traversed.getOrNull());
+        assertEquals(Long.valueOf((long) SIZE * (SIZE - 1) / 2), sum.getOrNull());
+    }
+
+    @Test
+    public void shouldCancelRemainingParallelSplits() {
+        // given
+        AtomicInteger evaluated = new AtomicInteger();
+
+        // when
+        Try<List<Integer>> traversed = TryStreams.traverse(IntStream.range(0, SIZE).boxed().parallel(), i -> {
+            evaluated.incrementAndGet();
+            if (i % 1000 == 999) {
+                throw new IllegalStateException("" + i);
+            }
+            return i;
+        });
+
+        // then
+        assertTrue(traversed.isFailure());
+        assertTrue(Integer.parseInt(traversed.getCause().getMessage()) % 1000 == 999);
+        assertTrue("evaluated " + evaluated.get() + " elements", evaluated.get() < SIZE / 2);
+    }
+}
@@ -0,0 +1,106 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TryValidationTests {
+
+    private static final int ITERATIONS = 100_000;
+
+    @Test
+    public void shouldReturnAllValuesInOrder() {
+        // when
+        Try<Object[]> validated = TryValidation.validate(Try.success("Ada"),
+                                                         TryParsers.parseInt("36").mapToObj(Integer::valueOf),
+                                                         TryParsers.parseBoolean("true"));
+
+        // then
+        assertArrayEquals(new Object[] { "Ada", 36, true }, validated.getOrNull());
+    }
+
+    @Test
+    public void shouldCarryEveryFailureAsSuppressed() {
+        // given
+        IllegalArgumentException first = new IllegalArgumentException("name");
+        IllegalArgumentException second = new IllegalArgumentException("email");
+
+        // when
+        Try<Object[]> validated = TryValidation.validate(Arrays.asList(Try.failure(first),
+                                                                       Try.success(1),
+                                                                       Try.failure(second)));
+
+        // then
+        ValidationException failure = (ValidationException) validated.getCause();
+        assertArrayEquals(new Throwable[] { first, second }, failure.getSuppressed());
+        assertArrayEquals(new int[] { 0, 2 }, failure.getFailedIndices());
+        assertEquals("2 of 3 validations failed", failure.getMessage());
+        assertEquals(0, failure.getStackTrace().length);
+    }
+
+    @Test
+    public void shouldRecordFailedIndicesBeyondInitialCapacity() {
+        // given
+        List<Try<?>> fields = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            fields.add(i % 2 == 0 ? Try.success(i) : Try.failure(new IllegalArgumentException("field " + i)));
+        }
+
+        // when
+        ValidationException failure = (ValidationException) TryValidation.validate(fields).getCause();
+
+        // then
+        assertEquals(100, failure.getFailureCount());
+        assertEquals(200, failure.getValidationCount());
+        assertEquals(199, failure.getFailedIndices()[99]);
+        assertEquals("field 199", failure.getSuppressed()[99].getMessage());
+    }
+
+    @Test
+    public void shouldEvaluateEverySupplier() {
+        // given
+        NumberFormatException thrown = new NumberFormatException("age");
+
+        // when
+        Try<Object[]> evaluated = TryValidation.evaluate(() -> "Ada", () -> { throw thrown; }, () -> 3);
+
+        // then
+        ValidationException failure = (ValidationException) evaluated.getCause();
+        assertSame(thrown, failure.getSuppressed()[0]);
+        assertArrayEquals(new int[] { 1 }, failure.getFailedIndices());
+        assertArrayEquals(new Object[] { 1, 2 }, TryValidation.evaluate(() -> 1, () -> 2).getOrNull());
+    }
+
+    @Test
+    public void shouldAllocateOnlyResultArrayOnSuccess() {
+        // given
+        ThreadAllocation allocation = new ThreadAllocation();
+        Try<?>[] fields = { Try.success("a"), Try.success("b"), Try.success("c"), Try.success("d") };
+        runValidation(fields, ITERATIONS);
+
+        // when
+        allocation.start();
+        int sink = runValidation(fields, ITERATIONS);
+        long allocated = allocation.stop();
+
+        // then
+        assertEquals(ITERATIONS * fields.length, sink);
+        // a 4-element Object[] and its Try, with uncompressed references
+        assertTrue("validation allocated " + allocated + " bytes", allocated < ITERATIONS * (48L + 32L));
+    }
+
+    private static int runValidation(Try<?>[] fields, int iterations) {
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += TryValidation.validate(fields).getOrNull().length;
+        }
+        return sink;
+    }
+}
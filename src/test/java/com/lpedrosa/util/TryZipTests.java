@@ -0,0 +1,120 @@
+package com.lpedrosa.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TryZipTests {
+
+    private static final int ITERATIONS = 100_000;
+
+    /** The size of one Try with 8-byte aligned objects and uncompressed references, the largest layout. */
+    private static final long ONE_TRY_BYTES = 32;
+
+    @Test
+    public void shouldZipSuccesses() {
+        // given
+        Try<String> name = Try.success("Ada");
+        Try<Integer> age = TryParsers.parseInt("36").mapToObj(Integer::valueOf);
+
+        // when
+        Try<String> person = Try.zip(name, age, (n, a) -> n + " (" + a + ")");
+
+        // then
+        assertEquals(Try.success("Ada (36)"), person);
+    }
+
+    @Test
+    public void shouldZipEightSuccesses() {
+        // given
+        Try<Integer> one = Try.success(1);
+
+        // when
+        Try<Integer> sum = Try.zip(one, one, one, one, one, one, one, Try.success(10),
+                                   (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+
+        // then
+        assertEquals(Integer.valueOf(17), sum.getOrNull());
+    }
+
+    @Test
+    public void shouldReturnFirstFailureWithoutApplyingZipper() {
+        // given
+        Try<Integer> first = Try.failure(new IllegalStateException("first"));
+        Try<Integer> second = Try.failure(new IllegalStateException("second"));
+
+        // when
+        Try<Integer> zipped = Try.zip(Try.success(1), first, Try.success(3), second,
+                                      (a, b, c, d) -> { fail("zipper should not run"); return 0; });
+
+        // then
+        assertSame(first, zipped);
+    }
+
+    @Test
+    public void shouldCaptureExceptionThrownByZipper() {
+        // when
+        Try<Integer> zipped = Try.zip(Try.success("1"), Try.success("x"), Try.success("3"),
+                                      (a, b, c) -> Integer.parseInt(a + b + c));
+
+        // then
+        assertTrue(zipped.getCause() instanceof NumberFormatException);
+    }
+
+    @Test
+    public void shouldCombineSuccessesInOrder() {
+        // when
+        Try<List<Integer>> combined = Try.combine(Arrays.asList(Try.success(1), Try.success(2), Try.success(3)));
+        Try<List<Integer>> empty = Try.combine(Collections.<Try<Integer>>emptyList());
+
+        // then
+        assertEquals(Arrays.asList(1, 2, 3), combined.getOrNull());
+        assertEquals(Collections.emptyList(), empty.getOrNull());
+    }
+
+    @Test
+    public void shouldCombineToFirstFailure() {
+        // given
+        Try<Integer> failure = Try.failure(new IllegalStateException());
+        Iterable<Try<Integer>> notACollection = new ArrayDeque<>(Arrays.asList(Try.success(1), failure))::iterator;
+
+        // then
+        assertSame(failure, Try.combine(Arrays.asList(Try.success(1), failure, Try.failure(new RuntimeException()))));
+        assertSame(failure, Try.combine(notACollection));
+    }
+
+    @Test
+    public void shouldAllocateAtMostTheResult() {
+        // given
+        ThreadAllocation allocation = new ThreadAllocation();
+        Try<String> a = Try.success("a");
+        Try<String> b = Try.success("b");
+        Try<String> c = Try.success("c");
+        runZip(a, b, c, ITERATIONS);
+
+        // when
+        allocation.start();
+        int sink = runZip(a, b, c, ITERATIONS);
+        long allocated = allocation.stop();
+
+        // then
+        assertEquals(ITERATIONS, sink);
+        assertTrue("zip allocated " + allocated + " bytes", allocated < ITERATIONS * ONE_TRY_BYTES);
+    }
+
+    private static int runZip(Try<String> a, Try<String> b, Try<String> c, int iterations) {
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += Try.zip(a, b, c, (x, y, z) -> y).orElse("").length();
+        }
+        return sink;
+    }
+}